@@ -1,6 +1,7 @@
 package com.colonygenesis.building;
 
 import com.colonygenesis.core.Game;
+import com.colonygenesis.core.GameRandom;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.resource.ResourceManager;
 import com.colonygenesis.resource.ResourceType;
@@ -38,7 +39,6 @@ public abstract class AbstractBuilding implements Serializable {
 
     protected transient ResourceManager resourceManager;
 
-    private final transient EventBus eventBus;
     protected final Game game;
 
     /**
@@ -68,8 +68,6 @@ public abstract class AbstractBuilding implements Serializable {
         this.constructionCost = new EnumMap<>(ResourceType.class);
         this.maintenanceCost = new EnumMap<>(ResourceType.class);
 
-        this.eventBus = EventBus.getInstance();
-
         this.game = game;
 
         LOGGER.fine("Created building: " + name + " at " + location);
@@ -127,12 +125,12 @@ public abstract class AbstractBuilding implements Serializable {
         LOGGER.fine("Construction progress for " + name + ": " +
                 (constructionTime - remainingConstructionTime) + "/" + constructionTime);
 
-        eventBus.publish(new BuildingEvents.BuildingConstructionProgressEvent(this, previousProgress, newProgress));
+        getEventBus().publish(new BuildingEvents.BuildingConstructionProgressEvent(this, previousProgress, newProgress));
 
         if (remainingConstructionTime <= 0) {
             LOGGER.info("Building " + name + " at " + location + " completed");
 
-            eventBus.publish(new BuildingEvents.BuildingCompletedEvent(this));
+            getEventBus().publish(new BuildingEvents.BuildingCompletedEvent(this));
 
             return true;
         }
@@ -164,7 +162,7 @@ public abstract class AbstractBuilding implements Serializable {
                 LOGGER.info("Building " + name + " at " + location + " activated" +
                         (efficiency < 100 ? " at " + efficiency + "% efficiency" : ""));
 
-                eventBus.publish(new BuildingEvents.BuildingActivatedEvent(this, efficiency));
+                getEventBus().publish(new BuildingEvents.BuildingActivatedEvent(this, efficiency));
 
                 return true;
             } else {
@@ -185,7 +183,7 @@ public abstract class AbstractBuilding implements Serializable {
             active = false;
             LOGGER.info("Building " + name + " at " + location + " deactivated");
 
-            eventBus.publish(new BuildingEvents.BuildingDeactivatedEvent(this));
+            getEventBus().publish(new BuildingEvents.BuildingDeactivatedEvent(this));
         }
     }
 
@@ -213,7 +211,7 @@ public abstract class AbstractBuilding implements Serializable {
             LOGGER.fine("Assigned " + actualAssigned + " workers to " + name +
                     " (" + workersAssigned + "/" + workersRequired + ")");
 
-            eventBus.publish(new BuildingEvents.WorkersAssignedEvent(this, previousWorkers, workersAssigned));
+            getEventBus().publish(new BuildingEvents.WorkersAssignedEvent(this, previousWorkers, workersAssigned));
 
             if (isComplete() && ((previousWorkers == 0 && workersAssigned > 0) || active)) {
                 activate();
@@ -246,14 +244,14 @@ public abstract class AbstractBuilding implements Serializable {
             LOGGER.fine("Removed " + actualRemoved + " workers from " + name +
                     " (" + workersAssigned + "/" + workersRequired + ")");
 
-            eventBus.publish(new BuildingEvents.WorkersAssignedEvent(this, previousWorkers, workersAssigned));
+            getEventBus().publish(new BuildingEvents.WorkersAssignedEvent(this, previousWorkers, workersAssigned));
 
             if (workersRequired > 0 && workersAssigned == 0 && active) {
                 deactivate();
             }
             else if (active) {
                 int efficiency = calculateEfficiency();
-                eventBus.publish(new BuildingEvents.BuildingActivatedEvent(this, efficiency));
+                getEventBus().publish(new BuildingEvents.BuildingActivatedEvent(this, efficiency));
             }
         }
 
@@ -281,6 +279,27 @@ public abstract class AbstractBuilding implements Serializable {
         return Math.min(100, (workersAssigned * 100) / workersRequired);
     }
 
+    /**
+     * Gets the event bus of the game this building belongs to.
+     *
+     * @return The event bus
+     */
+    protected EventBus getEventBus() {
+        return game.getEventBus();
+    }
+
+    /**
+     * Rolls a random value for this building's operation in the current turn.
+     * The value depends only on the game seed, the turn and the building's tile,
+     * so it is the same however and in whatever order buildings are processed.
+     *
+     * @return A value between 0 (inclusive) and 1 (exclusive)
+     */
+    protected double rollOperationRandom() {
+        return game.getRandom().nextDouble(GameRandom.Stream.BUILDING_OPERATION,
+                game.getCurrentTurn(), location.getX(), location.getY());
+    }
+
     public String getName() {
         return name;
     }
@@ -15,6 +15,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * Manages all buildings in the game.
@@ -25,13 +26,19 @@ public class BuildingManager implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * System property that enables parallel building operation by default.
+     */
+    public static final String PARALLEL_PROPERTY = "colonygenesis.parallelBuildings";
+
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
     private Game game;
+    private boolean parallelProcessing = Boolean.getBoolean(PARALLEL_PROPERTY);
     private final List<AbstractBuilding> buildings;
     private final Map<Tile, AbstractBuilding> buildingsByTile;
     private final List<AbstractBuilding> buildingsUnderConstruction;
 
-    private transient EventBus eventBus;
-
     /**
      * Constructs a new building manager for the specified game.
      *
@@ -42,75 +49,130 @@ public class BuildingManager implements Serializable {
         this.buildings = new ArrayList<>();
         this.buildingsByTile = new HashMap<>();
         this.buildingsUnderConstruction = new ArrayList<>();
-        this.eventBus = EventBus.getInstance();
 
         LOGGER.info("BuildingManager initialized");
     }
 
     /**
      * Processes buildings for the current turn.
-     * Updates construction progress and operates all active buildings.
+     * Updates construction progress, grows population and operates all active buildings.
      */
     public void processTurn() {
         LOGGER.fine("Processing buildings for turn " + game.getCurrentTurn());
 
         processConstruction();
 
-        Map<ResourceType, Integer> resourceChanges = new EnumMap<>(ResourceType.class);
+        int populationGrowth = processPopulationGrowth();
 
-        for (AbstractBuilding building : buildings) {
-            if (building.isActive()) {
-                // Special handling for habitation buildings with population growth
-                if (building instanceof HabitationBuilding habitation && habitation.getPopulationGrowthRate() > 0) {
-                    // Check if this building can support more population
-                    int currentOccupied = habitation.getOccupied();
-                    int buildingCapacity = habitation.getCapacity();
-                    int growthRate = habitation.getPopulationGrowthRate();
-
-                    if (currentOccupied < buildingCapacity) {
-                        // Calculate how much this building can grow
-                        int spaceAvailable = buildingCapacity - currentOccupied;
-                        int actualGrowth = Math.min(growthRate, spaceAvailable);
-
-                        // Check against total population capacity
-                        int currentPopulation = game.getResourceManager().getResource(ResourceType.POPULATION);
-                        int totalCapacity = game.getResourceManager().getCapacity(ResourceType.POPULATION);
-                        int totalSpaceAvailable = totalCapacity - currentPopulation;
-
-                        actualGrowth = Math.min(actualGrowth, totalSpaceAvailable);
-
-                        if (actualGrowth > 0) {
-                            // Update the building's occupied count - this will publish the event
-                            habitation.setOccupied(currentOccupied + actualGrowth);
-
-                            // Add the actual growth to resource changes
-                            resourceChanges.merge(ResourceType.POPULATION, actualGrowth, Integer::sum);
-
-                            LOGGER.info(String.format("Population grew by %d in %s. New occupancy: %d/%d",
-                                    actualGrowth, building.getName(), habitation.getOccupied(), buildingCapacity));
-                        } else {
-                            LOGGER.info(String.format("No population growth in %s - at capacity", building.getName()));
-                        }
-                    }
-                }
+        int[] resourceChanges = parallelProcessing ? operateParallel() : operateSerial();
+        resourceChanges[ResourceType.POPULATION.ordinal()] = populationGrowth;
 
-                // Handle other resources normally
-                Map<ResourceType, Integer> buildingOutput = building.operate();
-                for (Map.Entry<ResourceType, Integer> entry : buildingOutput.entrySet()) {
-                    ResourceType type = entry.getKey();
-                    int amount = entry.getValue();
+        applyResourceChanges(resourceChanges);
+
+        LOGGER.fine("Finished processing buildings for turn " + game.getCurrentTurn());
+    }
+
+    /**
+     * Grows the population of active habitation buildings.
+     * Runs before the operation phase because it publishes events and changes occupancy.
+     *
+     * @return The total population growth this turn
+     */
+    private int processPopulationGrowth() {
+        int totalGrowth = 0;
 
-                    // Skip population resource as it's handled above
-                    if (type != ResourceType.POPULATION) {
-                        resourceChanges.merge(type, amount, Integer::sum);
+        for (AbstractBuilding building : buildings) {
+            if (building.isActive() && building instanceof HabitationBuilding habitation
+                    && habitation.getPopulationGrowthRate() > 0) {
+                // Check if this building can support more population
+                int currentOccupied = habitation.getOccupied();
+                int buildingCapacity = habitation.getCapacity();
+                int growthRate = habitation.getPopulationGrowthRate();
+
+                if (currentOccupied < buildingCapacity) {
+                    // Calculate how much this building can grow
+                    int spaceAvailable = buildingCapacity - currentOccupied;
+                    int actualGrowth = Math.min(growthRate, spaceAvailable);
+
+                    // Check against total population capacity
+                    int currentPopulation = game.getResourceManager().getResource(ResourceType.POPULATION);
+                    int totalCapacity = game.getResourceManager().getCapacity(ResourceType.POPULATION);
+                    int totalSpaceAvailable = totalCapacity - currentPopulation;
+
+                    actualGrowth = Math.min(actualGrowth, totalSpaceAvailable);
+
+                    if (actualGrowth > 0) {
+                        // Update the building's occupied count - this will publish the event
+                        habitation.setOccupied(currentOccupied + actualGrowth);
+
+                        totalGrowth += actualGrowth;
+
+                        LOGGER.info(String.format("Population grew by %d in %s. New occupancy: %d/%d",
+                                actualGrowth, building.getName(), habitation.getOccupied(), buildingCapacity));
+                    } else {
+                        LOGGER.info(String.format("No population growth in %s - at capacity", building.getName()));
                     }
                 }
             }
         }
 
-        applyResourceChanges(resourceChanges);
+        return totalGrowth;
+    }
 
-        LOGGER.fine("Finished processing buildings for turn " + game.getCurrentTurn());
+    /**
+     * Operates all active buildings on the calling thread.
+     *
+     * @return The summed resource changes, indexed by resource type ordinal
+     */
+    private int[] operateSerial() {
+        int[] totals = new int[RESOURCE_TYPES.length];
+
+        for (AbstractBuilding building : buildings) {
+            accumulateOutput(totals, building);
+        }
+
+        return totals;
+    }
+
+    /**
+     * Operates all active buildings on the common fork-join pool.
+     * Each task sums into its own array and the partial sums are combined in encounter order,
+     * so the totals are identical to {@link #operateSerial()}.
+     *
+     * @return The summed resource changes, indexed by resource type ordinal
+     */
+    private int[] operateParallel() {
+        return IntStream.range(0, buildings.size())
+                .parallel()
+                .collect(
+                        () -> new int[RESOURCE_TYPES.length],
+                        (totals, i) -> accumulateOutput(totals, buildings.get(i)),
+                        (left, right) -> {
+                            for (int i = 0; i < left.length; i++) {
+                                left[i] += right[i];
+                            }
+                        });
+    }
+
+    /**
+     * Operates a single building and adds its output to the totals.
+     * Population is skipped because growth is handled separately.
+     *
+     * @param totals The totals to add to, indexed by resource type ordinal
+     * @param building The building to operate
+     */
+    private static void accumulateOutput(int[] totals, AbstractBuilding building) {
+        if (!building.isActive()) {
+            return;
+        }
+
+        for (Map.Entry<ResourceType, Integer> entry : building.operate().entrySet()) {
+            ResourceType type = entry.getKey();
+
+            if (type != ResourceType.POPULATION) {
+                totals[type.ordinal()] += entry.getValue();
+            }
+        }
     }
 
     /**
@@ -118,6 +180,7 @@ public class BuildingManager implements Serializable {
      * Advances construction progress and activates completed buildings.
      */
     private void processConstruction() {
+        EventBus eventBus = game.getEventBus();
         Iterator<AbstractBuilding> iterator = buildingsUnderConstruction.iterator();
 
         while (iterator.hasNext()) {
@@ -160,19 +223,18 @@ public class BuildingManager implements Serializable {
      * Applies resource changes to the game's resource manager.
      * Resets all production and consumption values before applying new values.
      *
-     * @param resourceChanges Map of resource changes to apply
+     * @param resourceChanges Resource changes to apply, indexed by resource type ordinal
      */
-    private void applyResourceChanges(Map<ResourceType, Integer> resourceChanges) {
+    private void applyResourceChanges(int[] resourceChanges) {
         // Reset all production and consumption values to 0
-        for (ResourceType type : ResourceType.values()) {
+        for (ResourceType type : RESOURCE_TYPES) {
             game.getResourceManager().setProduction(type, 0);
             game.getResourceManager().setConsumption(type, 0);
         }
 
         // Apply the new production and consumption values
-        for (Map.Entry<ResourceType, Integer> entry : resourceChanges.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
+        for (ResourceType type : RESOURCE_TYPES) {
+            int amount = resourceChanges[type.ordinal()];
 
             if (amount > 0) {
                 game.getResourceManager().addProduction(type, amount);
@@ -207,25 +269,16 @@ public class BuildingManager implements Serializable {
 
         Map<ResourceType, Integer> constructionCost = building.getConstructionCost();
 
-        for (Map.Entry<ResourceType, Integer> entry : constructionCost.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
-
-            if (game.getResourceManager().getResource(type) < amount) {
-                LOGGER.warning("Cannot afford building: " + building.getName());
-                return Result.failure("Not enough " + type.getName() + " to construct this building");
-            }
+        ResourceType shortfall = game.getResourceManager().findShortfall(constructionCost);
+        if (shortfall != null) {
+            LOGGER.warning("Cannot afford building: " + building.getName());
+            return Result.failure("Not enough " + shortfall.getName() + " to construct this building");
         }
 
-        for (Map.Entry<ResourceType, Integer> entry : constructionCost.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
-
-            Result<Integer> result = game.getResourceManager().removeResource(type, amount);
-            if (result.isFailure()) {
-                LOGGER.warning("Failed to remove resources for building: " + result.getErrorMessage());
-                return Result.failure(result.getErrorMessage());
-            }
+        Result<Boolean> payment = game.getResourceManager().spendResources(constructionCost);
+        if (payment.isFailure()) {
+            LOGGER.warning("Failed to remove resources for building: " + payment.getErrorMessage());
+            return Result.failure(payment.getErrorMessage());
         }
 
         building.setResourceManager(game.getResourceManager());
@@ -252,6 +305,7 @@ public class BuildingManager implements Serializable {
             LOGGER.info("Instantly constructed " + building.getName() + " at " + location);
         }
 
+        EventBus eventBus = game.getEventBus();
         eventBus.publish(new BuildingEvents.BuildingPlacedEvent(building, location));
         eventBus.publish(new TileEvents.TileUpdatedEvent(location));
 
@@ -283,6 +337,8 @@ public class BuildingManager implements Serializable {
 
         LOGGER.info("Demolished " + building.getName() + " at " + tile);
 
+        EventBus eventBus = game.getEventBus();
+        eventBus.publish(new BuildingEvents.BuildingDemolishedEvent(building, tile));
         eventBus.publish(new TileEvents.TileUpdatedEvent(tile));
 
         return Result.success(true);
@@ -365,6 +421,26 @@ public class BuildingManager implements Serializable {
         return buildingsUnderConstruction.size();
     }
 
+    /**
+     * Checks whether active buildings are operated in parallel.
+     *
+     * @return true if parallel processing is enabled
+     */
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Switches between serial and parallel building operation.
+     * Both modes produce the same resource totals.
+     *
+     * @param parallelProcessing true to operate buildings in parallel
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+        LOGGER.info("Parallel building processing " + (parallelProcessing ? "enabled" : "disabled"));
+    }
+
     public void setGame(Game game) {
         this.game = game;
     }
@@ -373,8 +449,6 @@ public class BuildingManager implements Serializable {
     private void readObject(ObjectInputStream in) throws ClassNotFoundException, IOException {
         in.defaultReadObject();
 
-        this.eventBus = EventBus.getInstance();
-
         updateResourceManagerReferences();
 
         LOGGER.info("BuildingManager deserialized and transient fields reinitialized");
@@ -4,7 +4,6 @@ import com.colonygenesis.core.Game;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.ui.events.ColonyEvents;
-import com.colonygenesis.ui.events.EventBus;
 
 import java.io.Serial;
 import java.util.EnumMap;
@@ -151,7 +150,7 @@ public abstract class HabitationBuilding extends AbstractBuilding {
 
         // Publish the occupancy changed event
         if (this.occupied != previousOccupied) {
-            EventBus.getInstance().publish(new ColonyEvents.BuildingOccupancyChangedEvent(
+            getEventBus().publish(new ColonyEvents.BuildingOccupancyChangedEvent(
                     this, this.occupied, previousOccupied, this.capacity));
         }
     }
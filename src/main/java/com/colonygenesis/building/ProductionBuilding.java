@@ -73,8 +73,6 @@ public abstract class ProductionBuilding extends AbstractBuilding {
             totalModifier *= techModifier;
         }
 
-        System.out.println(baseOutputAmount + " " + totalModifier);
-
         float workerEfficiency = calculateEfficiency() / 100.0f;
 
         return Math.round(baseOutputAmount * totalModifier * workerEfficiency);
@@ -74,7 +74,7 @@ public class ResourceProducer extends ProductionBuilding {
                 output.put(ResourceType.WATER, 1);
             }
             else if (producerType == ResourceProducerType.MINE) {
-                if (Math.random() < 0.1) {  // 10% chance
+                if (rollOperationRandom() < 0.1) {  // 10% chance
                     output.put(ResourceType.RARE_MINERALS, 1);
                 }
             }
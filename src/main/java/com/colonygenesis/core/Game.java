@@ -7,7 +7,6 @@ import com.colonygenesis.resource.ResourceManager;
 import com.colonygenesis.technology.TechManager;
 import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.ui.events.TurnEvents;
-import com.colonygenesis.util.DialogUtil;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.victory.VictoryManager;
 import com.colonygenesis.resource.AlienCompoundConverter;
@@ -49,25 +48,42 @@ public class Game implements Serializable {
     private Planet planet;
     private VictoryManager victoryManager;
     private AlienCompoundConverter alienCompoundConverter;
+    private GameRandom random;
 
+    private transient EventBus eventBus;
+    private transient boolean recoveredFromLoadError = false;
 
     /**
      * Constructs a new game instance.
      */
     public Game() {
+        this.eventBus = new EventBus();
         LOGGER.fine("Game instance created");
     }
 
     /**
-     * Initializes the game with the specified parameters.
+     * Initializes the game with the specified parameters and a time-based seed.
      *
      * @param colonyName The name of the player's colony
      * @param planetType The type of planet to generate
      * @param mapSize The size of the game map
      */
     public void initialize(String colonyName, PlanetType planetType, int mapSize) {
+        initialize(colonyName, planetType, mapSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Initializes the game with the specified parameters.
+     * Games initialized with the same parameters and seed play out identically.
+     *
+     * @param colonyName The name of the player's colony
+     * @param planetType The type of planet to generate
+     * @param mapSize The size of the game map
+     * @param seed The seed for all random decisions in the game
+     */
+    public void initialize(String colonyName, PlanetType planetType, int mapSize, long seed) {
         LOGGER.info("Initializing game with colony: " + colonyName +
-                ", planet type: " + planetType + ", map size: " + mapSize);
+                ", planet type: " + planetType + ", map size: " + mapSize + ", seed: " + seed);
 
         this.initialized = false;
         this.running = false;
@@ -78,8 +94,9 @@ public class Game implements Serializable {
         this.mapSize = mapSize;
         this.currentTurn = 1;
         this.saveDate = null;
+        this.random = new GameRandom(seed);
 
-        this.resourceManager = new ResourceManager();
+        this.resourceManager = new ResourceManager(eventBus);
         this.turnManager = new TurnManager(this);
         this.buildingManager = new BuildingManager(this);
         this.planet = new Planet(this, colonyName + " Prime", planetType, mapSize);
@@ -103,8 +120,6 @@ public class Game implements Serializable {
             throw new IllegalStateException("Game must be initialized before starting");
         }
 
-        EventBus.getInstance().reset();
-
         LOGGER.info("Starting game: " + colonyName);
         this.running = true;
         this.paused = false;
@@ -113,12 +128,12 @@ public class Game implements Serializable {
             resourceManager.publishCurrentState();
         }
 
-        EventBus.getInstance().publish(new TurnEvents.TurnAdvancedEvent(
+        eventBus.publish(new TurnEvents.TurnAdvancedEvent(
                 currentTurn,
                 currentTurn - 1
         ));
 
-        EventBus.getInstance().publish(new TurnEvents.PhaseChangedEvent(
+        eventBus.publish(new TurnEvents.PhaseChangedEvent(
                 turnManager.getCurrentPhase(),
                 turnManager.getCurrentPhase(),
                 currentTurn
@@ -221,6 +236,14 @@ public class Game implements Serializable {
         }
     }
 
+    /**
+     * Loads a game from a save file.
+     * If the file cannot be read, a fresh recovery game is created instead
+     * and flagged via {@link #isRecoveredFromLoadError()} so the caller can inform the player.
+     *
+     * @param filename The filename of the saved game
+     * @return The loaded game, a recovery game, or null if loading failed
+     */
     public static Game loadGame(String filename) {
         try {
             LOGGER.info("Loading game from: " + filename);
@@ -250,9 +273,8 @@ public class Game implements Serializable {
                     String colonyName = parts[1].replace("_", " ");
                     recoveryGame.initialize(colonyName, PlanetType.TEMPERATE, 30);
                     recoveryGame.start();
+                    recoveryGame.recoveredFromLoadError = true;
                     LOGGER.info("Created recovery game with name: " + colonyName);
-                    DialogUtil.showMessageDialog("Loading Error",
-                            "The save file could not be loaded. A new game has been created.");
                     return recoveryGame;
                 }
             }
@@ -272,7 +294,7 @@ public class Game implements Serializable {
             resourceManager.publishCurrentState();
         } else {
             LOGGER.severe("ResourceManager is null after loading");
-            resourceManager = new ResourceManager();
+            resourceManager = new ResourceManager(eventBus);
         }
 
         if (turnManager != null) {
@@ -299,7 +321,7 @@ public class Game implements Serializable {
         }
 
         if (victoryManager != null) {
-            // No setGame needed since Game is final in VictoryManager
+            victoryManager.reconnect();
         } else {
             LOGGER.severe("VictoryManager is null after loading");
             victoryManager = new VictoryManager(this);
@@ -310,8 +332,6 @@ public class Game implements Serializable {
             alienCompoundConverter = new AlienCompoundConverter(this);
         }
 
-        EventBus eventBus = EventBus.getInstance();
-
         resourceManager.publishCurrentState();
 
         eventBus.publish(new TurnEvents.TurnAdvancedEvent(currentTurn, currentTurn - 1));
@@ -333,6 +353,17 @@ public class Game implements Serializable {
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
 
+        this.eventBus = new EventBus();
+
+        if (random == null) {
+            // Saves from before the game owned a seed continue with a fresh one
+            random = new GameRandom(System.currentTimeMillis());
+        }
+
+        if (resourceManager != null) {
+            resourceManager.setEventBus(eventBus);
+        }
+
         if (turnManager != null) {
             turnManager.setGame(this);
         }
@@ -412,17 +443,34 @@ public class Game implements Serializable {
     }
 
     /**
-     * Performs cleanup of any static resources before starting a new game.
-     * This helps prevent state leakage between game instances.
+     * Performs cleanup before starting a new game.
+     * Each game owns its event bus, so the previous game's subscribers are
+     * released together with the game itself.
      */
     public static void cleanup() {
         LOGGER.info("Performing static game cleanup");
 
-        EventBus.getInstance().reset();
-
         System.gc();
     }
 
+    /**
+     * Gets the event bus owned by this game.
+     *
+     * @return The event bus
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets the seeded random source of this game.
+     *
+     * @return The random source
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
     /**
      * Gets the resource manager.
      *
@@ -513,6 +561,15 @@ public class Game implements Serializable {
         return paused;
     }
 
+    /**
+     * Checks if this game was created as a replacement for a save file that could not be loaded.
+     *
+     * @return true if this is a recovery game, false otherwise
+     */
+    public boolean isRecoveredFromLoadError() {
+        return recoveredFromLoadError;
+    }
+
     /**
      * Gets the colony name.
      *
@@ -0,0 +1,156 @@
+package com.colonygenesis.core;
+
+import com.colonygenesis.map.PlanetType;
+import com.colonygenesis.util.LoggerUtil;
+import com.colonygenesis.victory.VictoryEvents;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a game without any user interface.
+ * Drives the turn manager in a tight loop and reports simulation throughput.
+ * Nothing on this path touches JavaFX, so it can run on machines without a display.
+ */
+public class HeadlessSimulation {
+    private static final Logger LOGGER = LoggerUtil.getLogger(HeadlessSimulation.class);
+
+    private static final String DEFAULT_COLONY_NAME = "Headless";
+    private static final int DEFAULT_MAP_SIZE = 30;
+    private static final int DEFAULT_TURNS = 1000;
+
+    private final Game game;
+    private boolean gameOver = false;
+
+    /**
+     * Creates and starts a new headless game.
+     * Two simulations with the same arguments produce identical games.
+     *
+     * @param colonyName The name of the colony
+     * @param planetType The type of planet to generate
+     * @param mapSize The size of the game map
+     * @param seed The seed for all random decisions in the game
+     */
+    public HeadlessSimulation(String colonyName, PlanetType planetType, int mapSize, long seed) {
+        this.game = new Game();
+        game.initialize(colonyName, planetType, mapSize, seed);
+        game.start();
+
+        game.getEventBus().subscribe(VictoryEvents.GameOverEvent.class, event -> gameOver = true);
+    }
+
+    /**
+     * Advances the game by up to the specified number of turns.
+     * Stops early if the colony fails.
+     *
+     * @param turns The number of turns to simulate
+     * @return A report of the simulation run
+     */
+    public SimulationReport run(int turns) {
+        TurnManager turnManager = game.getTurnManager();
+        int startTurn = turnManager.getTurnNumber();
+
+        long startTime = System.nanoTime();
+
+        while (!gameOver && turnManager.getTurnNumber() - startTurn < turns) {
+            // There is no player to make decisions, so input phases complete immediately
+            turnManager.setPhaseCompleted(true);
+            turnManager.advancePhase();
+        }
+
+        long elapsedNs = System.nanoTime() - startTime;
+
+        return new SimulationReport(turnManager.getTurnNumber() - startTurn, elapsedNs, gameOver);
+    }
+
+    /**
+     * Simulates several independent colonies in parallel on the common fork-join pool.
+     * Every game owns its own event bus, so the colonies do not observe each other's events.
+     * Colony i is seeded with {@code seed + i}, so the batch is reproducible.
+     *
+     * @param colonies The number of colonies to simulate
+     * @param planetType The type of planet to generate for each colony
+     * @param mapSize The size of each game map
+     * @param turns The number of turns to simulate per colony
+     * @param seed The seed of the first colony
+     * @return One report per colony
+     */
+    public static List<SimulationReport> runColonies(int colonies, PlanetType planetType, int mapSize,
+                                                     int turns, long seed) {
+        return IntStream.range(0, colonies)
+                .parallel()
+                .mapToObj(i -> new HeadlessSimulation(DEFAULT_COLONY_NAME + " " + (i + 1),
+                        planetType, mapSize, seed + i).run(turns))
+                .toList();
+    }
+
+    /**
+     * Gets the simulated game.
+     *
+     * @return The game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Command line entry point.
+     * Arguments: [turns] [planetType] [mapSize] [colonies] [seed]
+     *
+     * @param args Command line arguments
+     */
+    public static void main(String[] args) {
+        int turns = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TURNS;
+        PlanetType planetType = args.length > 1 ? PlanetType.valueOf(args[1].toUpperCase()) : PlanetType.TEMPERATE;
+        int mapSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAP_SIZE;
+        int colonies = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.currentTimeMillis();
+
+        LoggerUtil.setGlobalLevel(Level.WARNING);
+
+        if (colonies > 1) {
+            long start = System.nanoTime();
+            List<SimulationReport> reports = runColonies(colonies, planetType, mapSize, turns, seed);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            int totalTurns = reports.stream().mapToInt(SimulationReport::turnsSimulated).sum();
+            System.out.printf("Simulated %d colonies, %d turns in %.2f s (%.1f turns/s overall)%n",
+                    colonies, totalTurns, elapsedSeconds, totalTurns / elapsedSeconds);
+            return;
+        }
+
+        long setupStart = System.nanoTime();
+        HeadlessSimulation simulation = new HeadlessSimulation(DEFAULT_COLONY_NAME, planetType, mapSize, seed);
+        double setupMs = (System.nanoTime() - setupStart) / 1_000_000.0;
+
+        SimulationReport report = simulation.run(turns);
+
+        System.out.printf("Setup: %.2f ms (%s, %dx%d, seed %d)%n",
+                setupMs, planetType.getName(), mapSize, mapSize, seed);
+        System.out.println(report);
+    }
+
+    /**
+     * Record class for the result of a headless run.
+     */
+    public record SimulationReport(int turnsSimulated, long elapsedNs, boolean gameOver) {
+
+        /**
+         * Gets the simulation throughput.
+         *
+         * @return The number of turns simulated per second
+         */
+        public double turnsPerSecond() {
+            return elapsedNs == 0 ? 0 : turnsSimulated / (elapsedNs / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Simulated %d turns in %.2f ms (%.1f turns/s)%s",
+                    turnsSimulated, elapsedNs / 1_000_000.0, turnsPerSecond(),
+                    gameOver ? " - colony failed" : "");
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.colonygenesis.core;
 
+import com.colonygenesis.resource.ResourceManager;
 import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.ui.events.TurnEvents;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.Result;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.logging.Logger;
@@ -25,8 +24,6 @@ public class TurnManager implements Serializable {
     private TurnPhase currentPhase;
     private boolean phaseCompleted;
 
-    private transient EventBus eventBus;
-
     /**
      * Constructs a turn manager for the specified game.
      *
@@ -37,7 +34,6 @@ public class TurnManager implements Serializable {
         this.turnNumber = game.getCurrentTurn();
         this.currentPhase = TurnPhase.PLANNING;
         this.phaseCompleted = false;
-        this.eventBus = EventBus.getInstance();
 
         LOGGER.info("TurnManager initialized at turn " + turnNumber + ", phase: PLANNING");
     }
@@ -67,6 +63,7 @@ public class TurnManager implements Serializable {
         LOGGER.info("Starting turn " + turnNumber);
         game.setCurrentTurn(turnNumber);
 
+        EventBus eventBus = game.getEventBus();
         eventBus.publish(new TurnEvents.TurnAdvancedEvent(turnNumber, previousTurn));
 
         eventBus.publish(new TurnEvents.PhaseChangedEvent(currentPhase, previousPhase, turnNumber));
@@ -92,7 +89,7 @@ public class TurnManager implements Serializable {
 
         LOGGER.info("Phase changed to: " + currentPhase.getName());
 
-        eventBus.publish(new TurnEvents.PhaseChangedEvent(currentPhase, previousPhase, turnNumber));
+        game.getEventBus().publish(new TurnEvents.PhaseChangedEvent(currentPhase, previousPhase, turnNumber));
 
         if (currentPhase == TurnPhase.END_TURN) {
             advanceTurn();
@@ -110,6 +107,26 @@ public class TurnManager implements Serializable {
     public void executeCurrentPhase() {
         LOGGER.info("Executing phase: " + currentPhase.getName());
 
+        // Hold back resource change events so the phase publishes a single delta
+        ResourceManager resourceManager = game.getResourceManager();
+        resourceManager.beginBatch();
+        try {
+            executePhaseLogic();
+        } finally {
+            resourceManager.endBatch();
+        }
+
+        phaseCompleted = true;
+
+        if (!currentPhase.requiresInput() && currentPhase != TurnPhase.END_TURN) {
+            advancePhase();
+        }
+    }
+
+    /**
+     * Applies the game logic of the current phase.
+     */
+    private void executePhaseLogic() {
         switch (currentPhase) {
             case PLANNING:
                 // Planning phase is for player decisions
@@ -142,12 +159,6 @@ public class TurnManager implements Serializable {
             case END_TURN:
                 break;
         }
-
-        phaseCompleted = true;
-
-        if (!currentPhase.requiresInput() && currentPhase != TurnPhase.END_TURN) {
-            advancePhase();
-        }
     }
 
     /**
@@ -189,11 +200,4 @@ public class TurnManager implements Serializable {
     public void setGame(Game game) {
         this.game = game;
     }
-
-    @Serial
-    private void readObject(ObjectInputStream in) throws ClassNotFoundException, IOException {
-        in.defaultReadObject();
-        this.eventBus = EventBus.getInstance();
-        LOGGER.info("TurnManager deserialized and transient fields reinitialized");
-    }
 }
\ No newline at end of file
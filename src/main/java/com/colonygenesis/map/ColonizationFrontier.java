@@ -0,0 +1,185 @@
+package com.colonygenesis.map;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The set of tiles that can be colonized next: habitable, uncolonized tiles
+ * adjacent to at least one colonized tile.
+ * <p>
+ * Membership is a bitset over the grid indices, so {@link #contains} is O(1).
+ * Members are also listed in an int array for iteration. Removing a member only
+ * clears its bit; the list is compacted once stale entries outnumber live ones,
+ * which keeps updates O(1) amortized and iteration proportional to the frontier size.
+ */
+public class ColonizationFrontier implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final HexGrid grid;
+
+    /** Bit per grid index: set if the tile is in the frontier. */
+    private final long[] members;
+    /** Bit per grid index: set if the tile has an entry in {@link #entries}, live or stale. */
+    private final long[] listed;
+
+    private int[] entries = new int[16];
+    private int entryCount;
+    private int size;
+
+    /**
+     * Creates the frontier of a grid from its current colonized tiles.
+     *
+     * @param grid The grid to track
+     */
+    public ColonizationFrontier(HexGrid grid) {
+        this.grid = grid;
+
+        int words = (grid.getWidth() * grid.getHeight() + 63) >>> 6;
+        this.members = new long[words];
+        this.listed = new long[words];
+
+        scan();
+    }
+
+    /**
+     * Recomputes the frontier by scanning the whole grid.
+     * Only needed after changes other than colonizing a tile, such as terrain changes.
+     */
+    public void rebuild() {
+        scan();
+    }
+
+    private void scan() {
+        Arrays.fill(members, 0L);
+        Arrays.fill(listed, 0L);
+        entryCount = 0;
+        size = 0;
+
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (grid.canColonize(x, y)) {
+                    add(grid.indexOf(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the frontier after a tile has been colonized.
+     * Looks only at the tile and its neighbors.
+     *
+     * @param x The x coordinate of the colonized tile
+     * @param y The y coordinate of the colonized tile
+     */
+    public void onColonized(int x, int y) {
+        remove(grid.indexOf(x, y));
+        grid.forEachNeighbor(x, y, this::addIfColonizable);
+    }
+
+    /**
+     * Checks whether a tile is in the frontier.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return true if the tile can be colonized next
+     */
+    public boolean contains(int x, int y) {
+        return grid.contains(x, y) && isMember(grid.indexOf(x, y));
+    }
+
+    /**
+     * Gets the number of tiles in the frontier.
+     *
+     * @return The frontier size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visits the coordinates of every tile in the frontier.
+     *
+     * @param visitor The visitor to call once per tile
+     */
+    public void forEach(HexGrid.NeighborVisitor visitor) {
+        for (int i = 0; i < entryCount; i++) {
+            int index = entries[i];
+            if (isMember(index)) {
+                visitor.visit(grid.xOf(index), grid.yOf(index));
+            }
+        }
+    }
+
+    /**
+     * Gets the tiles in the frontier.
+     *
+     * @return A new list of tile views
+     */
+    public List<Tile> getTiles() {
+        List<Tile> tiles = new ArrayList<>(size);
+        forEach((x, y) -> tiles.add(grid.getTileAt(x, y)));
+        return tiles;
+    }
+
+    private void addIfColonizable(int x, int y) {
+        if (grid.canColonize(x, y)) {
+            add(grid.indexOf(x, y));
+        }
+    }
+
+    private void add(int index) {
+        if (isMember(index)) {
+            return;
+        }
+
+        members[index >>> 6] |= 1L << index;
+        size++;
+
+        if ((listed[index >>> 6] & (1L << index)) != 0) {
+            return;
+        }
+
+        listed[index >>> 6] |= 1L << index;
+        if (entryCount == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[entryCount++] = index;
+    }
+
+    private void remove(int index) {
+        if (!isMember(index)) {
+            return;
+        }
+
+        members[index >>> 6] &= ~(1L << index);
+        size--;
+
+        if ((entryCount - size) * 2 > entryCount) {
+            compact();
+        }
+    }
+
+    private boolean isMember(int index) {
+        return (members[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Drops stale entries from the iteration list.
+     */
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int index = entries[i];
+            if (isMember(index)) {
+                entries[live++] = index;
+            } else {
+                listed[index >>> 6] &= ~(1L << index);
+            }
+        }
+        entryCount = live;
+    }
+}
@@ -11,6 +11,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -24,11 +25,22 @@ public class ColonizationManager implements Serializable {
     private final Game game;
     private final HexGrid grid;
     private final Map<TerrainType, Map<ResourceType, Integer>> colonizationCosts;
+    private final ColonizationFrontier frontier;
 
     public ColonizationManager(Game game, HexGrid grid) {
         this.game = game;
         this.grid = grid;
         this.colonizationCosts = initializeColonizationCosts();
+        this.frontier = new ColonizationFrontier(grid);
+    }
+
+    /**
+     * Gets the tiles that can be colonized next.
+     *
+     * @return The colonization frontier
+     */
+    public ColonizationFrontier getFrontier() {
+        return frontier;
     }
 
     /**
@@ -99,10 +111,12 @@ public class ColonizationManager implements Serializable {
             return Result.failure("Invalid tile coordinates");
         }
 
-        LOGGER.fine("Checking if tile at (" + x + "," + y + ") can be colonized. Current state: " +
-                "isColonized=" + tile.isColonized() +
-                ", isHabitable=" + tile.isHabitable() +
-                ", canColonize=" + grid.canColonize(tile));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Checking if tile at (" + x + "," + y + ") can be colonized. Current state: " +
+                    "isColonized=" + tile.isColonized() +
+                    ", isHabitable=" + tile.isHabitable() +
+                    ", inFrontier=" + frontier.contains(x, y));
+        }
 
         if (tile.isColonized()) {
             return Result.failure("Tile is already colonized");
@@ -112,18 +126,13 @@ public class ColonizationManager implements Serializable {
             return Result.failure("Tile terrain is not habitable");
         }
 
-        if (!grid.canColonize(tile)) {
+        if (!frontier.contains(x, y)) {
             return Result.failure("Tile must be adjacent to an already colonized tile");
         }
 
-        Map<ResourceType, Integer> cost = getColonizationCost(x, y);
-        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
-            ResourceType type = entry.getKey();
-            int requiredAmount = entry.getValue();
-
-            if (game.getResourceManager().getResource(type) < requiredAmount) {
-                return Result.failure("Not enough " + type.getName() + " to colonize this tile");
-            }
+        ResourceType shortfall = game.getResourceManager().findShortfall(getColonizationCost(x, y));
+        if (shortfall != null) {
+            return Result.failure("Not enough " + shortfall.getName() + " to colonize this tile");
         }
 
         return Result.success(true);
@@ -148,25 +157,22 @@ public class ColonizationManager implements Serializable {
 
         LOGGER.info("Pre-colonization state of tile (" + x + "," + y + "): " + tile);
 
-        Map<ResourceType, Integer> cost = getColonizationCost(x, y);
-        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
-
-            Result<Integer> result = game.getResourceManager().removeResource(type, amount);
-            if (result.isFailure()) {
-                LOGGER.warning("Failed to remove resources for colonization: " + result.getErrorMessage());
-                return Result.failure(result.getErrorMessage());
-            }
+        Result<Boolean> payment = game.getResourceManager().spendResources(getColonizationCost(x, y));
+        if (payment.isFailure()) {
+            LOGGER.warning("Failed to remove resources for colonization: " + payment.getErrorMessage());
+            return Result.failure(payment.getErrorMessage());
         }
 
         tile.setColonized(true);
         grid.revealTileAndNeighbors(x, y);
+        frontier.onColonized(x, y);
 
         LOGGER.info("Colonized tile at (" + x + "," + y + "): " + tile);
 
-        EventBus.getInstance().publish(new TileEvents.TileUpdatedEvent(tile));
-        EventBus.getInstance().publish(new TileEvents.RefreshMapEvent());
+        EventBus eventBus = game.getEventBus();
+        eventBus.publish(new TileEvents.TileColonizedEvent(tile));
+        eventBus.publish(new TileEvents.TileUpdatedEvent(tile));
+        eventBus.publish(new TileEvents.RefreshMapEvent());
 
         return Result.success(true);
     }
@@ -1,29 +1,81 @@
 package com.colonygenesis.map;
 
+import com.colonygenesis.building.AbstractBuilding;
 import com.colonygenesis.util.LoggerUtil;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 
 /**
  * Represents the hexagonal grid of tiles that makes up the planet surface.
+ * <p>
+ * Tile state is stored column by column in flat arrays: one byte of terrain per tile,
+ * one bit each for the colonized and revealed flags, and an int slot into a table of
+ * buildings. {@link Tile} objects are lightweight views onto these arrays, created on
+ * demand, so a 4096x4096 map needs about 88 MB and whole-map scans read contiguous memory.
  */
 public class HexGrid implements Serializable {
     private static final Logger LOGGER = LoggerUtil.getLogger(HexGrid.class);
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+
+    /** The maximum number of neighbors a tile can have. */
+    public static final int MAX_NEIGHBORS = 6;
+
+    /**
+     * Neighbor offsets as (dx, dy) pairs in the order north, northeast, southeast,
+     * south, southwest, northwest. Odd columns are shifted half a tile down.
+     */
+    private static final int[] EVEN_COLUMN_OFFSETS = {0, -1, 1, -1, 1, 0, 0, 1, -1, 0, -1, -1};
+    private static final int[] ODD_COLUMN_OFFSETS = {0, -1, 1, 0, 1, 1, 0, 1, -1, 1, -1, 0};
+
+    /**
+     * Axial (dq, dr) steps in walking order around a ring: east, northeast, north,
+     * west, southwest, south. Index 4 (southwest) is where rings start.
+     */
+    private static final int[] AXIAL_DIRECTIONS = {1, 0, 1, -1, 0, -1, -1, 0, -1, 1, 0, 1};
+
+    /**
+     * Receives neighbor coordinates from {@link #forEachNeighbor}.
+     */
+    @FunctionalInterface
+    public interface NeighborVisitor {
+        void visit(int x, int y);
+    }
 
     private final int width;
     private final int height;
-    private final Tile[][] tiles;
+
+    private final byte[] terrain;
+    private final long[] colonized;
+    private final long[] revealed;
+
+    /** Building slot of each tile: 0 for none, otherwise the index into {@link #buildings} plus one. */
+    private final int[] buildingSlots;
+    private final ArrayList<AbstractBuilding> buildings = new ArrayList<>();
+    private final ArrayDeque<Integer> freeBuildingSlots = new ArrayDeque<>();
+
+    /** Incremented on every terrain change, so derived data such as cached paths can detect staleness. */
+    private transient int terrainVersion;
+    private transient PathFinder pathFinder;
+    private transient RegionIndex regionIndex;
 
     public HexGrid(int width, int height) {
         this.width = width;
         this.height = height;
-        this.tiles = new Tile[width][height];
+
+        int size = width * height;
+        this.terrain = new byte[size];
+        this.colonized = new long[(size + 63) >>> 6];
+        this.revealed = new long[(size + 63) >>> 6];
+        this.buildingSlots = new int[size];
     }
 
     public int getWidth() {
@@ -34,67 +86,398 @@ public class HexGrid implements Serializable {
         return height;
     }
 
+    /**
+     * Checks whether the specified coordinates lie on the grid.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return true if the coordinates are inside the grid
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Gets a view of the tile at the specified coordinates.
+     * Views of the same tile are equal but not necessarily identical.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The tile, or null if the coordinates are outside the grid
+     */
     public Tile getTileAt(int x, int y) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            return tiles[x][y];
+        if (contains(x, y)) {
+            return new Tile(this, x, y);
         }
         return null;
     }
 
-    public void setTileAt(int x, int y, Tile tile) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            tiles[x][y] = tile;
+    public TerrainType getTerrainType(int x, int y) {
+        return TERRAIN_TYPES[terrain[index(x, y)]];
+    }
+
+    public void setTerrainType(int x, int y, TerrainType terrainType) {
+        terrain[index(x, y)] = (byte) terrainType.ordinal();
+        terrainVersion++;
+    }
+
+    /**
+     * Gets the terrain ordinal of the tile at a grid index.
+     */
+    int getTerrainOrdinal(int index) {
+        return terrain[index];
+    }
+
+    /**
+     * Gets a counter that changes whenever any tile's terrain changes.
+     *
+     * @return The terrain version
+     */
+    public int getTerrainVersion() {
+        return terrainVersion;
+    }
+
+    /**
+     * Gets the connected-region index for this grid, building it on first use.
+     * Once built, it is kept up to date as tiles are colonized.
+     *
+     * @return The region index
+     */
+    public RegionIndex getRegionIndex() {
+        if (regionIndex == null) {
+            regionIndex = new RegionIndex(this);
+        }
+        return regionIndex;
+    }
+
+    /**
+     * Gets the path finder for this grid, creating it on first use.
+     * The path finder is not thread-safe; background threads should create their own.
+     *
+     * @return The path finder
+     */
+    public PathFinder getPathFinder() {
+        if (pathFinder == null) {
+            pathFinder = new PathFinder(this);
+        }
+        return pathFinder;
+    }
+
+    /**
+     * Copies the terrain ordinals of every tile, in grid index order.
+     *
+     * @return A new array of width * height terrain ordinals
+     */
+    byte[] copyTerrain() {
+        return terrain.clone();
+    }
+
+    /**
+     * Replaces the terrain of every tile with ordinals from {@link #copyTerrain()}.
+     *
+     * @param source The terrain ordinals, in grid index order
+     */
+    void loadTerrain(byte[] source) {
+        if (source.length != terrain.length) {
+            throw new IllegalArgumentException("Terrain size " + source.length + " does not match grid size " + terrain.length);
+        }
+        System.arraycopy(source, 0, terrain, 0, terrain.length);
+        terrainVersion++;
+    }
+
+    public boolean isColonized(int x, int y) {
+        return getBit(colonized, index(x, y));
+    }
+
+    public void setColonized(int x, int y, boolean value) {
+        int i = index(x, y);
+        if (getBit(colonized, i) == value) {
+            return;
+        }
+
+        setBit(colonized, i, value);
+
+        if (regionIndex != null) {
+            if (value) {
+                regionIndex.onColonized(x, y);
+            } else {
+                regionIndex.invalidateTerritories();
+            }
         }
     }
 
+    public boolean isRevealed(int x, int y) {
+        return getBit(revealed, index(x, y));
+    }
+
+    public void setRevealed(int x, int y, boolean value) {
+        setBit(revealed, index(x, y), value);
+    }
+
+    /**
+     * Gets the building on the specified tile.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The building, or null if the tile has none
+     */
+    public AbstractBuilding getBuilding(int x, int y) {
+        int slot = buildingSlots[index(x, y)];
+        return slot == 0 ? null : buildings.get(slot - 1);
+    }
+
+    /**
+     * Places a building on the specified tile, replacing any building already there.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param building The building, or null to clear the tile
+     */
+    public void setBuilding(int x, int y, AbstractBuilding building) {
+        int i = index(x, y);
+        int slot = buildingSlots[i];
+
+        if (slot != 0) {
+            buildings.set(slot - 1, null);
+            freeBuildingSlots.push(slot - 1);
+            buildingSlots[i] = 0;
+        }
+
+        if (building != null) {
+            Integer free = freeBuildingSlots.poll();
+            if (free != null) {
+                buildings.set(free, building);
+                buildingSlots[i] = free + 1;
+            } else {
+                buildings.add(building);
+                buildingSlots[i] = buildings.size();
+            }
+        }
+    }
+
+    /**
+     * Counts the colonized tiles without visiting them one by one.
+     *
+     * @return The number of colonized tiles
+     */
+    public int countColonized() {
+        return countBits(colonized);
+    }
+
+    /**
+     * Counts the revealed tiles without visiting them one by one.
+     *
+     * @return The number of revealed tiles
+     */
+    public int countRevealed() {
+        return countBits(revealed);
+    }
+
     public List<Tile> getNeighbors(Tile tile) {
-        List<Tile> neighbors = new ArrayList<>();
+        List<Tile> neighbors = new ArrayList<>(MAX_NEIGHBORS);
         int x = tile.getX();
         int y = tile.getY();
+        int[] offsets = neighborOffsets(x);
 
-        boolean isOddColumn = (x % 2 == 1);
-
-        int[][] directions;
-        if (!isOddColumn) {
-            directions = new int[][] {
-                    {0, -1},   // North
-                    {1, -1},   // Northeast
-                    {1, 0},    // Southeast
-                    {0, 1},    // South
-                    {-1, 0},   // Southwest
-                    {-1, -1}   // Northwest
-            };
-        } else {
-            directions = new int[][] {
-                    {0, -1},   // North
-                    {1, 0},    // Northeast
-                    {1, 1},    // Southeast
-                    {0, 1},    // South
-                    {-1, 1},   // Southwest
-                    {-1, 0}    // Northwest
-            };
-        }
-
-        for (int[] dir : directions) {
-            int nx = x + dir[0];
-            int ny = y + dir[1];
-
-            Tile neighbor = getTileAt(nx, ny);
-            if (neighbor != null) {
-                neighbors.add(neighbor);
+        for (int i = 0; i < offsets.length; i += 2) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            if (contains(nx, ny)) {
+                neighbors.add(new Tile(this, nx, ny));
             }
         }
 
         return neighbors;
     }
 
+    /**
+     * Visits the coordinates of every neighbor of a tile without allocating.
+     *
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @param visitor The visitor to call once per neighbor on the grid
+     */
+    public void forEachNeighbor(int x, int y, NeighborVisitor visitor) {
+        int[] offsets = neighborOffsets(x);
+
+        for (int i = 0; i < offsets.length; i += 2) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            if (contains(nx, ny)) {
+                visitor.visit(nx, ny);
+            }
+        }
+    }
+
+    /**
+     * Writes the grid indices of every neighbor of a tile into a caller-supplied array.
+     * Use {@link #xOf(int)} and {@link #yOf(int)} to turn an index back into coordinates.
+     *
+     * @param x The x coordinate of the tile
+     * @param y The y coordinate of the tile
+     * @param out An array of at least {@link #MAX_NEIGHBORS} elements
+     * @return The number of neighbors written
+     */
+    public int getNeighborIndices(int x, int y, int[] out) {
+        int[] offsets = neighborOffsets(x);
+        int count = 0;
+
+        for (int i = 0; i < offsets.length; i += 2) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            if (contains(nx, ny)) {
+                out[count++] = index(nx, ny);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Visits every tile within a hex distance of a center tile, clipped to the grid.
+     * Costs O(radius²) regardless of map size and allocates nothing.
+     *
+     * @param x The x coordinate of the center
+     * @param y The y coordinate of the center
+     * @param radius The maximum distance, 0 for the center only
+     * @param visitor The visitor to call once per tile
+     */
+    public void forEachInRange(int x, int y, int radius, NeighborVisitor visitor) {
+        int q = x;
+        int r = toAxialR(x, y);
+
+        for (int dq = -radius; dq <= radius; dq++) {
+            int minDr = Math.max(-radius, -dq - radius);
+            int maxDr = Math.min(radius, -dq + radius);
+            for (int dr = minDr; dr <= maxDr; dr++) {
+                visitAxial(q + dq, r + dr, visitor);
+            }
+        }
+    }
+
+    /**
+     * Visits every tile at exactly a hex distance from a center tile, clipped to the grid.
+     * Tiles are visited in order around the ring.
+     *
+     * @param x The x coordinate of the center
+     * @param y The y coordinate of the center
+     * @param radius The distance, 0 for the center only
+     * @param visitor The visitor to call once per tile
+     */
+    public void forEachInRing(int x, int y, int radius, NeighborVisitor visitor) {
+        int q = x;
+        int r = toAxialR(x, y);
+
+        if (radius == 0) {
+            visitAxial(q, r, visitor);
+            return;
+        }
+
+        // Start radius steps towards the southwest, then walk the six sides
+        q += AXIAL_DIRECTIONS[8] * radius;
+        r += AXIAL_DIRECTIONS[9] * radius;
+
+        for (int side = 0; side < 6; side++) {
+            int stepQ = AXIAL_DIRECTIONS[side * 2];
+            int stepR = AXIAL_DIRECTIONS[side * 2 + 1];
+            for (int step = 0; step < radius; step++) {
+                visitAxial(q, r, visitor);
+                q += stepQ;
+                r += stepR;
+            }
+        }
+    }
+
+    /**
+     * Visits every tile within a hex distance of a center tile, ring by ring outwards,
+     * clipped to the grid.
+     *
+     * @param x The x coordinate of the center
+     * @param y The y coordinate of the center
+     * @param radius The maximum distance
+     * @param visitor The visitor to call once per tile
+     */
+    public void forEachInSpiral(int x, int y, int radius, NeighborVisitor visitor) {
+        for (int ring = 0; ring <= radius; ring++) {
+            forEachInRing(x, y, ring, visitor);
+        }
+    }
+
+    /**
+     * Gets the buildings within a hex distance of a center tile.
+     *
+     * @param x The x coordinate of the center
+     * @param y The y coordinate of the center
+     * @param radius The maximum distance
+     * @return The buildings in range
+     */
+    public List<AbstractBuilding> getBuildingsInRange(int x, int y, int radius) {
+        List<AbstractBuilding> result = new ArrayList<>();
+        forEachInRange(x, y, radius, (tx, ty) -> {
+            AbstractBuilding building = getBuilding(tx, ty);
+            if (building != null) {
+                result.add(building);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Computes the number of steps between two positions, ignoring terrain.
+     *
+     * @return The hex distance
+     */
+    public static int distance(int x1, int y1, int x2, int y2) {
+        int dq = x1 - x2;
+        int dr = toAxialR(x1, y1) - toAxialR(x2, y2);
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
+    }
+
+    /**
+     * Gets the grid index of the specified coordinates.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The index, between 0 and width * height - 1
+     */
+    public int indexOf(int x, int y) {
+        return index(x, y);
+    }
+
+    public int xOf(int index) {
+        return index / height;
+    }
+
+    public int yOf(int index) {
+        return index % height;
+    }
+
+    public boolean isHabitable(int x, int y) {
+        TerrainType terrainType = getTerrainType(x, y);
+        return terrainType != TerrainType.WATER && terrainType != TerrainType.VOLCANIC;
+    }
+
     public boolean canColonize(Tile tile) {
-        if (tile == null || tile.isColonized() || !tile.isHabitable()) {
+        return tile != null && canColonize(tile.getX(), tile.getY());
+    }
+
+    /**
+     * Checks whether a tile is habitable, not yet colonized and next to a colonized tile.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return true if the tile can be colonized
+     */
+    public boolean canColonize(int x, int y) {
+        if (!contains(x, y) || isColonized(x, y) || !isHabitable(x, y)) {
             return false;
         }
 
-        for (Tile neighbor : getNeighbors(tile)) {
-            if (neighbor.isColonized()) {
+        int[] offsets = neighborOffsets(x);
+        for (int i = 0; i < offsets.length; i += 2) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            if (contains(nx, ny) && isColonized(nx, ny)) {
                 return true;
             }
         }
@@ -103,12 +486,11 @@ public class HexGrid implements Serializable {
     }
 
     /**
-     * Reveals the specified tile and its neighbors.
+     * Reveals the specified tile.
      */
     public void revealTile(int x, int y) {
-        Tile tile = getTileAt(x, y);
-        if (tile != null) {
-            tile.setRevealed(true);
+        if (contains(x, y)) {
+            setRevealed(x, y, true);
         }
     }
 
@@ -116,13 +498,17 @@ public class HexGrid implements Serializable {
      * Reveals the specified tile and its neighbors.
      */
     public void revealTileAndNeighbors(int x, int y) {
-        Tile tile = getTileAt(x, y);
-        if (tile == null) return;
+        if (!contains(x, y)) return;
 
-        tile.setRevealed(true);
+        setRevealed(x, y, true);
 
-        for (Tile neighbor : getNeighbors(tile)) {
-            neighbor.setRevealed(true);
+        int[] offsets = neighborOffsets(x);
+        for (int i = 0; i < offsets.length; i += 2) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            if (contains(nx, ny)) {
+                setRevealed(nx, ny, true);
+            }
         }
     }
 
@@ -133,10 +519,62 @@ public class HexGrid implements Serializable {
     public void reset() {
         LOGGER.fine("Resetting HexGrid state");
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                tiles[x][y] = null;
-            }
+        Arrays.fill(terrain, (byte) 0);
+        terrainVersion++;
+        Arrays.fill(colonized, 0L);
+        Arrays.fill(revealed, 0L);
+        Arrays.fill(buildingSlots, 0);
+        buildings.clear();
+        freeBuildingSlots.clear();
+        regionIndex = null;
+    }
+
+    /**
+     * Converts offset coordinates to the axial r coordinate; axial q equals the column x.
+     * The third cube coordinate is -q - r.
+     */
+    private static int toAxialR(int x, int y) {
+        return y - ((x - (x & 1)) >> 1);
+    }
+
+    /**
+     * Visits the tile at axial coordinates if it lies on the grid.
+     */
+    private void visitAxial(int q, int r, NeighborVisitor visitor) {
+        int y = r + ((q - (q & 1)) >> 1);
+        if (contains(q, y)) {
+            visitor.visit(q, y);
+        }
+    }
+
+    /**
+     * Gets the neighbor offsets for a column, as consecutive (dx, dy) pairs.
+     */
+    private static int[] neighborOffsets(int x) {
+        return (x & 1) == 0 ? EVEN_COLUMN_OFFSETS : ODD_COLUMN_OFFSETS;
+    }
+
+    private int index(int x, int y) {
+        return x * height + y;
+    }
+
+    private static boolean getBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private static int countBits(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
         }
+        return count;
     }
-}
\ No newline at end of file
+}
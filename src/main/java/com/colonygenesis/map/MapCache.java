@@ -0,0 +1,231 @@
+package com.colonygenesis.map;
+
+import com.colonygenesis.util.LoggerUtil;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Bounded cache of generated terrain, keyed by seed, planet type and map size.
+ * <p>
+ * Entries are terrain byte arrays (one ordinal per tile), so a cached map costs one byte
+ * per tile. The least recently used entries are evicted once the cache holds more than
+ * its byte budget. When a directory is configured with {@link #DIRECTORY_PROPERTY},
+ * terrain is also written to disk and read back on a memory miss, so the cache survives
+ * restarts. Disk files carry {@link MapGenerator#GENERATOR_VERSION} in their name and header,
+ * so terrain from an older generator is never served, and their contents are validated
+ * before use. Disk I/O happens outside the cache lock.
+ */
+public class MapCache {
+    private static final Logger LOGGER = LoggerUtil.getLogger(MapCache.class);
+
+    /**
+     * System property naming a directory for disk-backed terrain. Unset keeps the cache in memory only.
+     */
+    public static final String DIRECTORY_PROPERTY = "colonygenesis.mapCacheDir";
+
+    /**
+     * System property overriding the in-memory budget, in bytes.
+     */
+    public static final String MAX_BYTES_PROPERTY = "colonygenesis.mapCacheBytes";
+
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final int FILE_MAGIC = 0x43474D32; // "CGM2"
+
+    private static MapCache shared;
+
+    private final long maxBytes;
+    private final Path directory;
+    private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long hits;
+    private long misses;
+
+    /**
+     * Identifies a generated map.
+     */
+    public record Key(long seed, PlanetType planetType, int width, int height) {
+        private String fileName() {
+            return planetType.name().toLowerCase() + "_" + width + "x" + height + "_"
+                    + Long.toHexString(seed) + "_v" + MapGenerator.GENERATOR_VERSION + ".terrain";
+        }
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxBytes The in-memory budget in bytes
+     * @param directory The directory for disk-backed entries, or null for memory only
+     */
+    public MapCache(long maxBytes, Path directory) {
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the process-wide cache configured from system properties.
+     *
+     * @return The shared cache
+     */
+    public static synchronized MapCache getShared() {
+        if (shared == null) {
+            String dir = System.getProperty(DIRECTORY_PROPERTY);
+            long bytes = Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES);
+            shared = new MapCache(bytes, dir == null || dir.isBlank() ? null : Path.of(dir));
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the terrain of a cached map.
+     *
+     * @param key The map key
+     * @return A copy of the terrain ordinals, or null if the map is not cached
+     */
+    public byte[] get(Key key) {
+        synchronized (this) {
+            byte[] terrain = entries.get(key);
+            if (terrain != null) {
+                hits++;
+                return terrain.clone();
+            }
+            if (directory == null) {
+                misses++;
+                return null;
+            }
+        }
+
+        byte[] terrain = readFromDisk(key);
+
+        synchronized (this) {
+            if (terrain == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            store(key, terrain);
+        }
+        return terrain.clone();
+    }
+
+    /**
+     * Adds the terrain of a generated map.
+     *
+     * @param key The map key
+     * @param terrain The terrain ordinals; the cache keeps its own copy
+     */
+    public void put(Key key, byte[] terrain) {
+        byte[] copy = terrain.clone();
+        synchronized (this) {
+            store(key, copy);
+        }
+
+        if (directory != null) {
+            writeToDisk(key, copy);
+        }
+    }
+
+    /**
+     * Removes every in-memory entry. Files on disk are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private void store(Key key, byte[] terrain) {
+        byte[] previous = entries.put(key, terrain);
+        if (previous != null) {
+            totalBytes -= previous.length;
+        }
+        totalBytes += terrain.length;
+
+        Iterator<Map.Entry<Key, byte[]>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Key, byte[]> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                break;
+            }
+            totalBytes -= entry.getValue().length;
+            eldest.remove();
+        }
+    }
+
+    private byte[] readFromDisk(Key key) {
+        Path file = directory.resolve(key.fileName());
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(in)) {
+            if (data.readInt() != FILE_MAGIC || data.readInt() != MapGenerator.GENERATOR_VERSION
+                    || data.readInt() != key.width() || data.readInt() != key.height()) {
+                LOGGER.warning("Ignoring mismatched map cache file: " + file);
+                return null;
+            }
+
+            byte[] terrain = new byte[key.width() * key.height()];
+            data.readFully(terrain);
+
+            int terrainTypes = TerrainType.values().length;
+            for (byte ordinal : terrain) {
+                if (ordinal < 0 || ordinal >= terrainTypes) {
+                    LOGGER.warning("Ignoring corrupt map cache file " + file + ": invalid terrain " + ordinal);
+                    return null;
+                }
+            }
+            return terrain;
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read map cache file " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(Key key, byte[] terrain) {
+        Path file = directory.resolve(key.fileName());
+
+        try {
+            Files.createDirectories(directory);
+
+            // Write to a temporary file first so concurrent readers never see a partial file
+            Path temp = Files.createTempFile(directory, key.fileName(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp);
+                 DataOutputStream data = new DataOutputStream(out)) {
+                data.writeInt(FILE_MAGIC);
+                data.writeInt(MapGenerator.GENERATOR_VERSION);
+                data.writeInt(key.width());
+                data.writeInt(key.height());
+                data.write(terrain);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write map cache file " + file + ": " + e.getMessage());
+        }
+    }
+}
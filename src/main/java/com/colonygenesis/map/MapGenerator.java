@@ -1,15 +1,22 @@
 package com.colonygenesis.map;
 
+import com.colonygenesis.core.GameRandom;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.SimplexNoise;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * Manages the process of generating terrain for planets.
+ * <p>
+ * The map is generated in bands of {@link #BAND_WIDTH} columns. Each band draws from its own
+ * random stream derived from the map seed and the band number, so bands can be generated in
+ * parallel on the common fork-join pool and the result for a seed does not depend on the
+ * number of threads.
  */
 public class MapGenerator implements Serializable {
     @Serial
@@ -17,29 +24,91 @@ public class MapGenerator implements Serializable {
 
     private static final Logger LOGGER = LoggerUtil.getLogger(MapGenerator.class);
 
+    /** Number of columns generated by one task. */
+    static final int BAND_WIDTH = 32;
+
     /**
-     * Generates a map based on planet type and size.
+     * Version of the generation algorithm. Bump it whenever the terrain produced for a seed
+     * changes, so maps cached on disk by an older version are not reused.
      */
-    public HexGrid generateMap(int width, int height, PlanetType planetType, long seed) {
-        LOGGER.info("Generating map for planet type: " + planetType + " with seed: " + seed);
+    public static final int GENERATOR_VERSION = 1;
 
-        Random random = new Random(seed);
+    /** Elevation noise settings; one octave keeps the classic terrain shape. */
+    private static final double ELEVATION_SCALE = 0.1;
+    private static final int ELEVATION_OCTAVES = 1;
+    private static final double ELEVATION_PERSISTENCE = 0.5;
+    private static final double ELEVATION_LACUNARITY = 2.0;
 
+    /** Stream keys used to derive the noise seed and the per-band seeds from the map seed. */
+    private static final long NOISE_KEY = 0;
+    private static final long TERRAIN_KEY = 1;
+
+    /**
+     * Generates a map based on planet type and size.
+     * Terrain is taken from the shared {@link MapCache} when the same seed, type and size
+     * were generated before.
+     */
+    public HexGrid generateMap(int width, int height, PlanetType planetType, long seed) {
         HexGrid grid = new HexGrid(width, height);
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                Tile tile = new Tile(x, y, TerrainType.PLAINS);
-                grid.setTileAt(x, y, tile);
-            }
+        MapCache cache = MapCache.getShared();
+        MapCache.Key key = new MapCache.Key(seed, planetType, width, height);
+        byte[] cachedTerrain = cache.get(key);
+
+        if (cachedTerrain != null) {
+            LOGGER.info("Using cached map for planet type: " + planetType + " with seed: " + seed);
+            grid.loadTerrain(cachedTerrain);
+        } else {
+            LOGGER.info("Generating map for planet type: " + planetType + " with seed: " + seed);
+            generateTerrain(grid, planetType, seed);
+            cache.put(key, grid.copyTerrain());
         }
 
+        placeStartingColony(grid);
+
+        return grid;
+    }
+
+    /**
+     * Generates the terrain of every tile, including the habitable starting area.
+     */
+    private void generateTerrain(HexGrid grid, PlanetType planetType, long seed) {
+        int width = grid.getWidth();
+
+        GameRandom seeds = new GameRandom(seed);
         PlanetType.TerrainDistribution distribution = planetType.getTerrainDistribution();
-        SimplexNoise elevationNoise = new SimplexNoise(random.nextLong());
+        SimplexNoise elevationNoise = new SimplexNoise(seeds.deriveSeed(GameRandom.Stream.MAP_GENERATION, NOISE_KEY));
+
+        // Bands write into a plain array and the grid takes it in one step, so workers
+        // never touch the grid's terrain version
+        byte[] terrain = new byte[width * grid.getHeight()];
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                double noise1 = elevationNoise.noise(x * 0.1, y * 0.1);
+        int bandCount = (width + BAND_WIDTH - 1) / BAND_WIDTH;
+        IntStream.range(0, bandCount).parallel().forEach(band ->
+                generateBand(grid, terrain, band, distribution, elevationNoise,
+                        seeds.stream(GameRandom.Stream.MAP_GENERATION, TERRAIN_KEY, band)));
+
+        grid.loadTerrain(terrain);
+        ensureHabitableCenter(grid, width, grid.getHeight());
+    }
+
+    /**
+     * Generates the terrain of one band of columns into the terrain ordinals.
+     * Bands write disjoint parts of the array and share only read-only state.
+     */
+    private void generateBand(HexGrid grid, byte[] terrain, int band, PlanetType.TerrainDistribution distribution,
+                              SimplexNoise elevationNoise, SplittableRandom random) {
+        int startX = band * BAND_WIDTH;
+        int endX = Math.min(startX + BAND_WIDTH, grid.getWidth());
+
+        double[] elevation = new double[grid.getHeight()];
+
+        for (int x = startX; x < endX; x++) {
+            elevationNoise.fillFractal(elevation, x * ELEVATION_SCALE, 0.0, 0.0, ELEVATION_SCALE,
+                    ELEVATION_OCTAVES, ELEVATION_PERSISTENCE, ELEVATION_LACUNARITY);
+
+            for (int y = 0; y < grid.getHeight(); y++) {
+                double noise1 = elevation[y];
 
                 TerrainType terrainType;
                 if (noise1 > 0.7) {
@@ -50,18 +119,9 @@ public class MapGenerator implements Serializable {
                     terrainType = distribution.getRandomTerrain(random);
                 }
 
-                Tile tile = grid.getTileAt(x, y);
-                tile.setTerrainType(terrainType);
-
-                tile.setColonized(false);
-                tile.setRevealed(false);
-                tile.setBuilding(null);
+                terrain[grid.indexOf(x, y)] = (byte) terrainType.ordinal();
             }
         }
-
-        ensureHabitableCenter(grid, width, height);
-
-        return grid;
     }
 
     /**
@@ -79,6 +139,14 @@ public class MapGenerator implements Serializable {
                 }
             }
         }
+    }
+
+    /**
+     * Colonizes the center tile and reveals its neighbors.
+     */
+    private void placeStartingColony(HexGrid grid) {
+        int centerX = grid.getWidth() / 2;
+        int centerY = grid.getHeight() / 2;
 
         Tile centerTile = grid.getTileAt(centerX, centerY);
         if (centerTile != null) {
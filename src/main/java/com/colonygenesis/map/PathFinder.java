@@ -0,0 +1,285 @@
+package com.colonygenesis.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A* pathfinding over a {@link HexGrid}, weighted by {@link TerrainType#getMovementCost()}.
+ * <p>
+ * Entering a tile costs the movement cost of its terrain. Costs are kept as fixed-point
+ * integers, and the heuristic is the hex distance times the cheapest terrain cost, which
+ * never overestimates, so paths are optimal. Search state lives in primitive arrays
+ * that are reused between queries and reset with a generation stamp rather than cleared.
+ * Recent results are cached and the cache is dropped whenever the grid's terrain changes.
+ * <p>
+ * Instances are not thread-safe; use one per thread.
+ */
+public class PathFinder {
+    /** Fixed-point scale of the integer movement costs. */
+    private static final int COST_SCALE = 100;
+    private static final int CACHE_CAPACITY = 1024;
+
+    private static final int[] MOVEMENT_COSTS;
+    private static final int MIN_MOVEMENT_COST;
+
+    static {
+        TerrainType[] types = TerrainType.values();
+        MOVEMENT_COSTS = new int[types.length];
+        int min = Integer.MAX_VALUE;
+        for (TerrainType type : types) {
+            int cost = (int) Math.round(type.getMovementCost() * COST_SCALE);
+            MOVEMENT_COSTS[type.ordinal()] = cost;
+            min = Math.min(min, cost);
+        }
+        MIN_MOVEMENT_COST = min;
+    }
+
+    private final HexGrid grid;
+
+    private int[] costs;
+    private int[] parents;
+    /** Per tile: {@code 2 * search} once reached, {@code 2 * search + 1} once closed. */
+    private int[] states;
+    private int search;
+
+    private int[] heapNodes = new int[256];
+    private int[] heapPriorities = new int[256];
+    private int heapSize;
+
+    private final int[] neighbors = new int[HexGrid.MAX_NEIGHBORS];
+
+    private final Map<Long, int[]> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+    private int cachedTerrainVersion;
+    private long cacheHits;
+    private long searches;
+
+    /**
+     * Creates a path finder for the specified grid.
+     * Search buffers are allocated on the first query.
+     *
+     * @param grid The grid to search
+     */
+    public PathFinder(HexGrid grid) {
+        this.grid = grid;
+        this.cachedTerrainVersion = grid.getTerrainVersion();
+    }
+
+    /**
+     * Finds the cheapest path between two tiles.
+     *
+     * @param from The start tile
+     * @param to The goal tile
+     * @return The tiles of the path, from start to goal inclusive, or an empty list if there is none
+     */
+    public List<Tile> findPath(Tile from, Tile to) {
+        int[] path = findPath(from.getX(), from.getY(), to.getX(), to.getY());
+        if (path == null) {
+            return List.of();
+        }
+
+        List<Tile> tiles = new ArrayList<>(path.length);
+        for (int index : path) {
+            tiles.add(grid.getTileAt(grid.xOf(index), grid.yOf(index)));
+        }
+        return tiles;
+    }
+
+    /**
+     * Finds the cheapest path between two positions.
+     *
+     * @param startX The x coordinate of the start
+     * @param startY The y coordinate of the start
+     * @param goalX The x coordinate of the goal
+     * @param goalY The y coordinate of the goal
+     * @return The grid indices of the path, from start to goal inclusive, or null if there is none
+     */
+    public int[] findPath(int startX, int startY, int goalX, int goalY) {
+        if (!grid.contains(startX, startY) || !grid.contains(goalX, goalY)) {
+            return null;
+        }
+
+        if (cachedTerrainVersion != grid.getTerrainVersion()) {
+            cache.clear();
+            cachedTerrainVersion = grid.getTerrainVersion();
+        }
+
+        int start = grid.indexOf(startX, startY);
+        int goal = grid.indexOf(goalX, goalY);
+        long key = ((long) start << 32) | (goal & 0xFFFFFFFFL);
+
+        int[] path = cache.get(key);
+        if (path != null) {
+            cacheHits++;
+        } else {
+            path = search(start, goal);
+            if (path == null) {
+                return null;
+            }
+            cache.put(key, path);
+        }
+
+        return path.clone();
+    }
+
+    /**
+     * Gets the total movement cost of a path, not counting the start tile.
+     *
+     * @param path Grid indices as returned by {@link #findPath(int, int, int, int)}
+     * @return The movement cost
+     */
+    public double getPathCost(int[] path) {
+        int total = 0;
+        for (int i = 1; i < path.length; i++) {
+            total += MOVEMENT_COSTS[grid.getTerrainOrdinal(path[i])];
+        }
+        return (double) total / COST_SCALE;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getSearchCount() {
+        return searches;
+    }
+
+    private int[] search(int start, int goal) {
+        searches++;
+        ensureBuffers();
+
+        int reached = nextSearch();
+        int closed = reached + 1;
+        int goalX = grid.xOf(goal);
+        int goalY = grid.yOf(goal);
+
+        heapSize = 0;
+        costs[start] = 0;
+        parents[start] = -1;
+        states[start] = reached;
+        push(start, heuristic(start, goalX, goalY));
+
+        while (heapSize > 0) {
+            int current = pop();
+            if (states[current] == closed) {
+                continue;
+            }
+            states[current] = closed;
+
+            if (current == goal) {
+                return reconstruct(goal);
+            }
+
+            int count = grid.getNeighborIndices(grid.xOf(current), grid.yOf(current), neighbors);
+            for (int i = 0; i < count; i++) {
+                int next = neighbors[i];
+                int state = states[next];
+                if (state == closed) {
+                    continue;
+                }
+
+                int cost = costs[current] + MOVEMENT_COSTS[grid.getTerrainOrdinal(next)];
+                if (state != reached || cost < costs[next]) {
+                    states[next] = reached;
+                    costs[next] = cost;
+                    parents[next] = current;
+                    push(next, cost + heuristic(next, goalX, goalY));
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private int heuristic(int index, int goalX, int goalY) {
+        return HexGrid.distance(grid.xOf(index), grid.yOf(index), goalX, goalY) * MIN_MOVEMENT_COST;
+    }
+
+    private int[] reconstruct(int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = parents[node]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        for (int node = goal, i = length - 1; node != -1; node = parents[node], i--) {
+            path[i] = node;
+        }
+        return path;
+    }
+
+    private void ensureBuffers() {
+        int size = grid.getWidth() * grid.getHeight();
+        if (states == null || states.length != size) {
+            costs = new int[size];
+            parents = new int[size];
+            states = new int[size];
+            search = 0;
+        }
+    }
+
+    /**
+     * Starts a new search generation and returns its "reached" stamp.
+     * States from earlier searches are ignored without clearing the arrays.
+     */
+    private int nextSearch() {
+        search++;
+        if (search > Integer.MAX_VALUE / 2 - 1) {
+            Arrays.fill(states, 0);
+            search = 1;
+        }
+        return search * 2;
+    }
+
+    private void push(int node, int priority) {
+        if (heapSize == heapNodes.length) {
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+            heapPriorities = Arrays.copyOf(heapPriorities, heapSize * 2);
+        }
+
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapPriorities[parent] <= priority) {
+                break;
+            }
+            heapNodes[i] = heapNodes[parent];
+            heapPriorities[i] = heapPriorities[parent];
+            i = parent;
+        }
+        heapNodes[i] = node;
+        heapPriorities[i] = priority;
+    }
+
+    private int pop() {
+        int result = heapNodes[0];
+        int lastNode = heapNodes[--heapSize];
+        int lastPriority = heapPriorities[heapSize];
+
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heapPriorities[child + 1] < heapPriorities[child]) {
+                child++;
+            }
+            if (lastPriority <= heapPriorities[child]) {
+                break;
+            }
+            heapNodes[i] = heapNodes[child];
+            heapPriorities[i] = heapPriorities[child];
+            i = child;
+        }
+        heapNodes[i] = lastNode;
+        heapPriorities[i] = lastPriority;
+
+        return result;
+    }
+}
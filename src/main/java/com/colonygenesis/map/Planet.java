@@ -1,6 +1,7 @@
 package com.colonygenesis.map;
 
 import com.colonygenesis.core.Game;
+import com.colonygenesis.core.GameRandom;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.Result;
@@ -20,15 +21,31 @@ public class Planet implements Serializable {
 
     private String name;
     private PlanetType type;
+    private long seed;
+    private int resetCount;
     private HexGrid grid;
     private ColonizationManager colonizationManager;
 
     public Planet(Game game, String name, PlanetType type, int mapSize) {
+        this(game, name, type, mapSize, game.getRandom().deriveSeed(GameRandom.Stream.MAP_GENERATION));
+    }
+
+    /**
+     * Creates a planet from a known map seed, such as one returned by {@link #getSeed()}.
+     * Terrain already generated for the same seed, type and size comes from the {@link MapCache}.
+     *
+     * @param game The game instance
+     * @param name The planet name
+     * @param type The planet type
+     * @param mapSize The map size
+     * @param seed The map generation seed
+     */
+    public Planet(Game game, String name, PlanetType type, int mapSize, long seed) {
         this.name = name;
         this.type = type;
 
         MapGenerator generator = new MapGenerator();
-        long seed = System.currentTimeMillis();
+        this.seed = seed;
         this.grid = generator.generateMap(mapSize, mapSize, type, seed);
 
         this.colonizationManager = new ColonizationManager(game, grid);
@@ -44,6 +61,15 @@ public class Planet implements Serializable {
         return type;
     }
 
+    /**
+     * Gets the seed the planet's map was generated from.
+     *
+     * @return The map generation seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
     public HexGrid getGrid() {
         return grid;
     }
@@ -52,6 +78,16 @@ public class Planet implements Serializable {
         return colonizationManager;
     }
 
+    /**
+     * Gets the tiles that can be colonized next.
+     * The frontier is updated incrementally as tiles are colonized.
+     *
+     * @return The colonization frontier
+     */
+    public ColonizationFrontier getColonizationFrontier() {
+        return colonizationManager.getFrontier();
+    }
+
     public Result<Boolean> colonizeTile(int x, int y) {
         return colonizationManager.colonizeTile(x, y);
     }
@@ -63,6 +99,11 @@ public class Planet implements Serializable {
     /**
      * Resets the planet to a clean state.
      * This is useful when reusing a planet instance.
+     * <p>
+     * Each reset generates a new map from a seed derived from the game seed and the number
+     * of resets so far, so repeated resets give different maps that are still reproducible
+     * for a given game seed. To regenerate a particular map, create the planet from its
+     * {@link #getSeed() seed} instead.
      *
      * @param game The game instance
      * @param name The new planet name
@@ -76,7 +117,7 @@ public class Planet implements Serializable {
         this.type = type;
 
         MapGenerator generator = new MapGenerator();
-        long seed = System.currentTimeMillis();
+        this.seed = game.getRandom().deriveSeed(GameRandom.Stream.MAP_GENERATION, ++resetCount);
         this.grid = generator.generateMap(mapSize, mapSize, type, seed);
 
         this.colonizationManager = new ColonizationManager(game, grid);
@@ -89,17 +130,7 @@ public class Planet implements Serializable {
      * @return The number of colonized tiles
      */
     public int countColonizedTiles() {
-        int count = 0;
-        HexGrid g = getGrid();
-        for (int x = 0; x < g.getWidth(); x++) {
-            for (int y = 0; y < g.getHeight(); y++) {
-                Tile tile = g.getTileAt(x, y);
-                if (tile != null && tile.isColonized()) {
-                    count++;
-                    LOGGER.fine("Found colonized tile at (" + x + "," + y + "): " + tile);
-                }
-            }
-        }
+        int count = getGrid().countColonized();
         LOGGER.info("Total colonized tiles: " + count);
         return count;
     }
@@ -5,7 +5,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Extended version of PlanetType with more variety and generation parameters.
@@ -95,7 +95,7 @@ public enum PlanetType {
             return Collections.unmodifiableMap(distribution);
         }
 
-        public TerrainType getRandomTerrain(Random random) {
+        public TerrainType getRandomTerrain(RandomGenerator random) {
             double value = random.nextDouble();
             double cumulativeProbability = 0.0;
 
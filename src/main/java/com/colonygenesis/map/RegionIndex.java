@@ -0,0 +1,258 @@
+package com.colonygenesis.map;
+
+import java.util.Arrays;
+
+/**
+ * Labels the connected regions of a {@link HexGrid} with union-find.
+ * <p>
+ * Two partitions are kept: terrain regions, which are contiguous tiles of the same terrain,
+ * and territories, which are contiguous colonized tiles. Each partition is a single int array
+ * where a root holds the negated region size and every other tile holds its parent's index,
+ * so size and membership queries are O(1) amortized with path halving.
+ * <p>
+ * Colonizing a tile is folded into the territories incrementally by {@link HexGrid}.
+ * Terrain changes and lost colonies can split regions, which union-find cannot undo,
+ * so the affected partition is rebuilt on the next query after such a change.
+ */
+public class RegionIndex {
+    private final HexGrid grid;
+
+    private final int[] terrainRegions;
+    private final int[] territories;
+    private final int[] neighbors = new int[HexGrid.MAX_NEIGHBORS];
+
+    private int terrainVersion;
+    private boolean territoriesStale;
+    private int terrainRegionCount;
+    private int territoryCount;
+
+    /**
+     * Builds the region index of a grid.
+     *
+     * @param grid The grid to label
+     */
+    public RegionIndex(HexGrid grid) {
+        this.grid = grid;
+
+        int size = grid.getWidth() * grid.getHeight();
+        this.terrainRegions = new int[size];
+        this.territories = new int[size];
+
+        rebuildTerrainRegions();
+        rebuildTerritories();
+    }
+
+    /**
+     * Gets the identifier of the terrain region containing a tile.
+     * Two tiles are in the same region exactly when their identifiers are equal,
+     * as long as the terrain does not change in between.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The region identifier
+     */
+    public int getTerrainRegionId(int x, int y) {
+        ensureTerrainCurrent();
+        return find(terrainRegions, grid.indexOf(x, y));
+    }
+
+    /**
+     * Gets the number of tiles in the terrain region containing a tile.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The region size
+     */
+    public int getTerrainRegionSize(int x, int y) {
+        ensureTerrainCurrent();
+        return -terrainRegions[find(terrainRegions, grid.indexOf(x, y))];
+    }
+
+    /**
+     * Gets the number of separate terrain regions on the grid.
+     *
+     * @return The number of terrain regions
+     */
+    public int getTerrainRegionCount() {
+        ensureTerrainCurrent();
+        return terrainRegionCount;
+    }
+
+    /**
+     * Gets the identifier of the territory containing a colonized tile.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The territory identifier, or -1 if the tile is not colonized
+     */
+    public int getTerritoryId(int x, int y) {
+        if (!grid.isColonized(x, y)) {
+            return -1;
+        }
+        ensureTerritoriesCurrent();
+        return find(territories, grid.indexOf(x, y));
+    }
+
+    /**
+     * Gets the number of colonized tiles connected to a tile.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @return The territory size, or 0 if the tile is not colonized
+     */
+    public int getTerritorySize(int x, int y) {
+        if (!grid.isColonized(x, y)) {
+            return 0;
+        }
+        ensureTerritoriesCurrent();
+        return -territories[find(territories, grid.indexOf(x, y))];
+    }
+
+    /**
+     * Checks whether two colonized tiles are connected through colonized tiles.
+     *
+     * @return true if both tiles are colonized and in the same territory
+     */
+    public boolean isConnected(int x1, int y1, int x2, int y2) {
+        int first = getTerritoryId(x1, y1);
+        return first != -1 && first == getTerritoryId(x2, y2);
+    }
+
+    /**
+     * Gets the number of separate territories. A colony without cut-off parts has one.
+     *
+     * @return The number of territories
+     */
+    public int getTerritoryCount() {
+        ensureTerritoriesCurrent();
+        return territoryCount;
+    }
+
+    /**
+     * Adds a newly colonized tile to the territories, joining it with colonized neighbors.
+     * Called by {@link HexGrid} when a tile becomes colonized.
+     */
+    void onColonized(int x, int y) {
+        if (territoriesStale) {
+            return;
+        }
+
+        int index = grid.indexOf(x, y);
+        territories[index] = -1;
+        territoryCount++;
+
+        int count = grid.getNeighborIndices(x, y, neighbors);
+        for (int i = 0; i < count; i++) {
+            int neighbor = neighbors[i];
+            if (grid.isColonized(grid.xOf(neighbor), grid.yOf(neighbor)) && union(territories, index, neighbor)) {
+                territoryCount--;
+            }
+        }
+    }
+
+    /**
+     * Marks the territories for rebuilding after a tile lost its colony,
+     * which may split a territory. Called by {@link HexGrid}.
+     */
+    void invalidateTerritories() {
+        territoriesStale = true;
+    }
+
+    private void ensureTerritoriesCurrent() {
+        if (territoriesStale) {
+            rebuildTerritories();
+        }
+    }
+
+    private void ensureTerrainCurrent() {
+        if (terrainVersion != grid.getTerrainVersion()) {
+            rebuildTerrainRegions();
+        }
+    }
+
+    private void rebuildTerrainRegions() {
+        terrainVersion = grid.getTerrainVersion();
+        Arrays.fill(terrainRegions, -1);
+        terrainRegionCount = terrainRegions.length;
+
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                int index = grid.indexOf(x, y);
+                int terrain = grid.getTerrainOrdinal(index);
+
+                int count = grid.getNeighborIndices(x, y, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+                    if (neighbor < index && grid.getTerrainOrdinal(neighbor) == terrain
+                            && union(terrainRegions, index, neighbor)) {
+                        terrainRegionCount--;
+                    }
+                }
+            }
+        }
+    }
+
+    private void rebuildTerritories() {
+        territoriesStale = false;
+        Arrays.fill(territories, -1);
+        territoryCount = 0;
+
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (!grid.isColonized(x, y)) {
+                    continue;
+                }
+
+                int index = grid.indexOf(x, y);
+                territoryCount++;
+
+                int count = grid.getNeighborIndices(x, y, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+                    if (neighbor < index && grid.isColonized(grid.xOf(neighbor), grid.yOf(neighbor))
+                            && union(territories, index, neighbor)) {
+                        territoryCount--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the root of a tile's set, halving the path on the way.
+     */
+    private static int find(int[] parents, int index) {
+        while (parents[index] >= 0) {
+            int parent = parents[index];
+            if (parents[parent] >= 0) {
+                parents[index] = parents[parent];
+            }
+            index = parents[index];
+        }
+        return index;
+    }
+
+    /**
+     * Merges the sets of two tiles, attaching the smaller to the larger.
+     *
+     * @return true if the tiles were in different sets
+     */
+    private static boolean union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA == rootB) {
+            return false;
+        }
+
+        // Roots hold negated sizes, so the more negative root is the larger set
+        if (parents[rootA] > parents[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+
+        parents[rootA] += parents[rootB];
+        parents[rootB] = rootA;
+        return true;
+    }
+}
@@ -1,7 +1,6 @@
 package com.colonygenesis.map;
 
 import com.colonygenesis.resource.ResourceType;
-import javafx.scene.paint.Color;
 
 import java.util.Map;
 
@@ -10,30 +9,28 @@ import java.util.Map;
  * Each type has unique properties and resource modifiers.
  */
 public enum TerrainType {
-    PLAINS("Plains", "Flat areas suitable for most buildings.", Color.LIGHTGREEN,
+    PLAINS("Plains", "Flat areas suitable for most buildings.",
             Map.of(ResourceType.FOOD, 1.2, ResourceType.ENERGY, 1.0, ResourceType.MATERIALS, 0.8)),
-    DESERT("Desert", "Dry areas with abundant solar potential.", Color.KHAKI,
+    DESERT("Desert", "Dry areas with abundant solar potential.",
             Map.of(ResourceType.FOOD, 0.5, ResourceType.ENERGY, 1.5, ResourceType.MATERIALS, 0.7)),
-    MOUNTAINS("Mountains", "Elevated terrain rich in minerals.", Color.GRAY,
+    MOUNTAINS("Mountains", "Elevated terrain rich in minerals.",
             Map.of(ResourceType.FOOD, 0.3, ResourceType.ENERGY, 0.8, ResourceType.MATERIALS, 1.5, ResourceType.RARE_MINERALS, 1.3)),
-    WATER("Water", "Bodies of liquid suitable for water extraction.", Color.LIGHTSKYBLUE,
+    WATER("Water", "Bodies of liquid suitable for water extraction.",
             Map.of(ResourceType.FOOD, 0.8, ResourceType.WATER, 2.0, ResourceType.ENERGY, 0.5)),
-    FOREST("Forest", "Wooded areas with diverse resources.", Color.DARKGREEN,
+    FOREST("Forest", "Wooded areas with diverse resources.",
             Map.of(ResourceType.FOOD, 1.5, ResourceType.MATERIALS, 1.3, ResourceType.ENERGY, 0.7)),
-    TUNDRA("Tundra", "Cold regions with frozen water reserves.", Color.LIGHTCYAN,
+    TUNDRA("Tundra", "Cold regions with frozen water reserves.",
             Map.of(ResourceType.FOOD, 0.4, ResourceType.WATER, 1.2, ResourceType.MATERIALS, 0.8, ResourceType.RARE_MINERALS, 1.1)),
-    VOLCANIC("Volcanic", "Active geological areas rich in exotic compounds.", Color.DARKRED,
+    VOLCANIC("Volcanic", "Active geological areas rich in exotic compounds.",
             Map.of(ResourceType.FOOD, 0.2, ResourceType.ENERGY, 1.8, ResourceType.MATERIALS, 0.6, ResourceType.ALIEN_COMPOUNDS, 1.4));
 
     private final String name;
     private final String description;
-    private final Color color;
     private final Map<ResourceType, Double> resourceModifiers;
 
-    TerrainType(String name, String description, Color color, Map<ResourceType, Double> resourceModifiers) {
+    TerrainType(String name, String description, Map<ResourceType, Double> resourceModifiers) {
         this.name = name;
         this.description = description;
-        this.color = color;
         this.resourceModifiers = resourceModifiers;
     }
 
@@ -45,10 +42,6 @@ public enum TerrainType {
         return description;
     }
 
-    public Color getColor() {
-        return color;
-    }
-
     public double getMovementCost() {
         return switch(this) {
             case PLAINS -> 1.0;
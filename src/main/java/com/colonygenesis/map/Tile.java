@@ -8,25 +8,22 @@ import java.io.Serializable;
 /**
  * Represents a tile on the game map with a specific terrain type.
  * Tiles can be colonized and have buildings constructed on them.
+ * <p>
+ * A tile is a view onto its {@link HexGrid}, which owns the tile's state.
+ * Two views of the same grid position are equal.
  */
 public class Tile implements Serializable {
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
+    private final HexGrid grid;
     private final int x;
     private final int y;
-    private TerrainType terrain;
-    private boolean colonized;
-    private boolean revealed;
-    private AbstractBuilding building;
 
-    public Tile(int x, int y, TerrainType terrain) {
+    Tile(HexGrid grid, int x, int y) {
+        this.grid = grid;
         this.x = x;
         this.y = y;
-        this.terrain = terrain;
-        this.colonized = false;
-        this.revealed = false;
-        this.building = null;
     }
 
     public int getX() {
@@ -38,35 +35,35 @@ public class Tile implements Serializable {
     }
 
     public TerrainType getTerrainType() {
-        return terrain;
+        return grid.getTerrainType(x, y);
     }
 
     public void setTerrainType(TerrainType terrain) {
-        this.terrain = terrain;
+        grid.setTerrainType(x, y, terrain);
     }
 
     public boolean isColonized() {
-        return colonized;
+        return grid.isColonized(x, y);
     }
 
     public void setColonized(boolean colonized) {
-        this.colonized = colonized;
+        grid.setColonized(x, y, colonized);
     }
 
     public boolean isRevealed() {
-        return revealed;
+        return grid.isRevealed(x, y);
     }
 
     public void setRevealed(boolean revealed) {
-        this.revealed = revealed;
+        grid.setRevealed(x, y, revealed);
     }
 
     public double getResourceYield(ResourceType resourceType) {
-        return terrain.getResourceModifier(resourceType);
+        return getTerrainType().getResourceModifier(resourceType);
     }
 
     public boolean isHabitable() {
-        return terrain != TerrainType.WATER && terrain != TerrainType.VOLCANIC;
+        return grid.isHabitable(x, y);
     }
 
     /**
@@ -75,7 +72,7 @@ public class Tile implements Serializable {
      * @return The building on this tile, or null if no building exists
      */
     public AbstractBuilding getBuilding() {
-        return building;
+        return grid.getBuilding(x, y);
     }
 
     /**
@@ -84,7 +81,7 @@ public class Tile implements Serializable {
      * @param building The building to place on this tile
      */
     public void setBuilding(AbstractBuilding building) {
-        this.building = building;
+        grid.setBuilding(x, y, building);
     }
 
     /**
@@ -93,7 +90,7 @@ public class Tile implements Serializable {
      * @return true if this tile has a building, false otherwise
      */
     public boolean hasBuilding() {
-        return building != null;
+        return grid.getBuilding(x, y) != null;
     }
 
     /**
@@ -102,6 +99,7 @@ public class Tile implements Serializable {
      * @return true if this tile has a building under construction, false otherwise
      */
     public boolean hasBuildingUnderConstruction() {
+        AbstractBuilding building = grid.getBuilding(x, y);
         return building != null && !building.isComplete();
     }
 
@@ -111,14 +109,32 @@ public class Tile implements Serializable {
      * @return true if this tile has a completed building, false otherwise
      */
     public boolean hasCompletedBuilding() {
+        AbstractBuilding building = grid.getBuilding(x, y);
         return building != null && building.isComplete();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tile other)) {
+            return false;
+        }
+        return grid == other.grid && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * x + y;
+    }
+
     @Override
     public String toString() {
-        return "Tile[" + x + "," + y + "] " + terrain +
-                (colonized ? " (Colonized)" : " (Not Colonized)") +
-                (revealed ? " (Revealed)" : " (Not Revealed)") +
+        AbstractBuilding building = grid.getBuilding(x, y);
+        return "Tile[" + x + "," + y + "] " + getTerrainType() +
+                (isColonized() ? " (Colonized)" : " (Not Colonized)") +
+                (isRevealed() ? " (Revealed)" : " (Not Revealed)") +
                 (building != null ? " with " + building.getName() : "");
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.colonygenesis.resource;
 
 import com.colonygenesis.core.Game;
-import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.ui.events.NotificationEvents;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.Result;
@@ -64,7 +63,7 @@ public class AlienCompoundConverter {
         }
 
         // Notify success
-        EventBus.getInstance().publish(NotificationEvents.Factory.info(
+        game.getEventBus().publish(NotificationEvents.Factory.info(
                 "Alien Compound Conversion",
                 "Converted " + amount + " alien compounds to " + output + " " + targetResource.getName()
         ));
@@ -100,7 +99,7 @@ public class AlienCompoundConverter {
             return boostResult;
         }
 
-        EventBus.getInstance().publish(NotificationEvents.Factory.success(
+        game.getEventBus().publish(NotificationEvents.Factory.success(
                 "Research Boost",
                 "Used " + compoundsToUse + " alien compounds to boost research by " + boost + " points"
         ));
@@ -0,0 +1,114 @@
+package com.colonygenesis.resource;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Primitive storage for all per-resource values of a colony.
+ * Stock, capacity, production, consumption and last-turn stock are kept in
+ * int arrays indexed by {@link ResourceType#ordinal()}, so reads and writes
+ * never box or allocate.
+ */
+public class ResourceLedger implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final ResourceType[] TYPES = ResourceType.values();
+
+    private final int[] stock;
+    private final int[] capacity;
+    private final int[] production;
+    private final int[] consumption;
+    private final int[] lastTurnStock;
+
+    /**
+     * Constructs an empty ledger with the base storage capacity of every resource.
+     */
+    public ResourceLedger() {
+        stock = new int[TYPES.length];
+        capacity = new int[TYPES.length];
+        production = new int[TYPES.length];
+        consumption = new int[TYPES.length];
+        lastTurnStock = new int[TYPES.length];
+
+        for (ResourceType type : TYPES) {
+            capacity[type.ordinal()] = type.getBaseStorage();
+        }
+    }
+
+    public int getStock(ResourceType type) {
+        return stock[type.ordinal()];
+    }
+
+    public void setStock(ResourceType type, int amount) {
+        stock[type.ordinal()] = amount;
+    }
+
+    public int getCapacity(ResourceType type) {
+        return capacity[type.ordinal()];
+    }
+
+    public void setCapacity(ResourceType type, int amount) {
+        capacity[type.ordinal()] = amount;
+    }
+
+    public int getProduction(ResourceType type) {
+        return production[type.ordinal()];
+    }
+
+    public void setProduction(ResourceType type, int amount) {
+        production[type.ordinal()] = amount;
+    }
+
+    public int getConsumption(ResourceType type) {
+        return consumption[type.ordinal()];
+    }
+
+    public void setConsumption(ResourceType type, int amount) {
+        consumption[type.ordinal()] = amount;
+    }
+
+    /**
+     * Gets the net production (production - consumption) of a resource.
+     *
+     * @param type The resource type
+     * @return The net production
+     */
+    public int getNetProduction(ResourceType type) {
+        int i = type.ordinal();
+        return production[i] - consumption[i];
+    }
+
+    /**
+     * Gets the stock of a resource at the start of the last processed turn.
+     *
+     * @param type The resource type
+     * @return The stock at the start of the turn
+     */
+    public int getLastTurnStock(ResourceType type) {
+        return lastTurnStock[type.ordinal()];
+    }
+
+    /**
+     * Records the current stock as the start-of-turn stock of every resource.
+     */
+    public void recordTurnStart() {
+        System.arraycopy(stock, 0, lastTurnStock, 0, stock.length);
+    }
+
+    /**
+     * Creates an immutable copy of the ledger for the user interface.
+     *
+     * @param availableWorkers The number of workers not assigned to buildings
+     * @param assignedWorkers The number of workers assigned to buildings
+     * @return A snapshot of the current values
+     */
+    public ResourceSnapshot snapshot(int availableWorkers, int assignedWorkers) {
+        int[] net = new int[TYPES.length];
+        for (int i = 0; i < net.length; i++) {
+            net[i] = production[i] - consumption[i];
+        }
+
+        return new ResourceSnapshot(stock.clone(), net, capacity.clone(), availableWorkers, assignedWorkers);
+    }
+}
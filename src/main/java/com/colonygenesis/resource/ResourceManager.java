@@ -5,11 +5,11 @@ import com.colonygenesis.ui.events.ResourceEvents;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.Result;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -19,49 +19,39 @@ import java.util.logging.Logger;
 public class ResourceManager implements Serializable {
     private static final Logger LOGGER = LoggerUtil.getLogger(ResourceManager.class);
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
-    private final Map<ResourceType, Integer> resources;
-    private final Map<ResourceType, Integer> capacity;
-    private final Map<ResourceType, Integer> production;
-    private final Map<ResourceType, Integer> consumption;
-    private final Map<ResourceType, Integer> lastTurnResources;
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+    private final ResourceLedger ledger;
 
     private int assignedWorkers;
     private int populationGrowthRate;
 
     private transient EventBus eventBus;
+    private transient int batchDepth;
+    private transient ResourceSnapshot batchStart;
 
     /**
-     * Constructs a resource manager for the specified game.
+     * Constructs a resource manager that publishes to the specified event bus.
+     *
+     * @param eventBus The event bus of the owning game
      */
-    public ResourceManager() {
+    public ResourceManager(EventBus eventBus) {
         LOGGER.fine("Initializing ResourceManager");
 
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = eventBus;
 
-        resources = new EnumMap<>(ResourceType.class);
-        capacity = new EnumMap<>(ResourceType.class);
-        production = new EnumMap<>(ResourceType.class);
-        consumption = new EnumMap<>(ResourceType.class);
-        lastTurnResources = new EnumMap<>(ResourceType.class);
+        ledger = new ResourceLedger();
 
         this.assignedWorkers = 0;
 
-        for (ResourceType type : ResourceType.values()) {
-            resources.put(type, 0);
-            capacity.put(type, type.getBaseStorage());
-            production.put(type, 0);
-            consumption.put(type, 0);
-            lastTurnResources.put(type, 0);
-        }
-
-        resources.put(ResourceType.FOOD, 500);
-        resources.put(ResourceType.WATER, 500);
-        resources.put(ResourceType.MATERIALS, 500);
-        resources.put(ResourceType.ENERGY, 300);
-        resources.put(ResourceType.POPULATION, 10);
-        resources.put(ResourceType.ALIEN_COMPOUNDS, 2);
+        ledger.setStock(ResourceType.FOOD, 500);
+        ledger.setStock(ResourceType.WATER, 500);
+        ledger.setStock(ResourceType.MATERIALS, 500);
+        ledger.setStock(ResourceType.ENERGY, 300);
+        ledger.setStock(ResourceType.POPULATION, 10);
+        ledger.setStock(ResourceType.ALIEN_COMPOUNDS, 2);
 
         LOGGER.info("ResourceManager initialized with starting resources");
 
@@ -75,7 +65,7 @@ public class ResourceManager implements Serializable {
      * @return The amount of the resource
      */
     public int getResource(ResourceType type) {
-        return resources.getOrDefault(type, 0);
+        return ledger.getStock(type);
     }
 
     /**
@@ -96,31 +86,52 @@ public class ResourceManager implements Serializable {
         return assignedWorkers;
     }
 
+    /**
+     * Gets an immutable snapshot of all resource values for the user interface.
+     *
+     * @return A snapshot of the current resources
+     */
+    public ResourceSnapshot getSnapshot() {
+        return ledger.snapshot(getAvailableWorkers(), assignedWorkers);
+    }
+
     /**
      * Gets a map of all current resource amounts.
      *
-     * @return A defensive copy of the resources map
+     * @return A new map of the resource amounts
      */
     public Map<ResourceType, Integer> getAllResources() {
-        return new EnumMap<>(resources);
+        Map<ResourceType, Integer> result = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : RESOURCE_TYPES) {
+            result.put(type, ledger.getStock(type));
+        }
+        return result;
     }
 
     /**
      * Gets a map of all resource production values.
      *
-     * @return A defensive copy of the production map
+     * @return A new map of the production values
      */
     public Map<ResourceType, Integer> getAllProduction() {
-        return new EnumMap<>(production);
+        Map<ResourceType, Integer> result = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : RESOURCE_TYPES) {
+            result.put(type, ledger.getProduction(type));
+        }
+        return result;
     }
 
     /**
      * Gets a map of all resource consumption values.
      *
-     * @return A defensive copy of the consumption map
+     * @return A new map of the consumption values
      */
     public Map<ResourceType, Integer> getAllConsumption() {
-        return new EnumMap<>(consumption);
+        Map<ResourceType, Integer> result = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : RESOURCE_TYPES) {
+            result.put(type, ledger.getConsumption(type));
+        }
+        return result;
     }
 
     /**
@@ -131,8 +142,8 @@ public class ResourceManager implements Serializable {
     public Map<ResourceType, Integer> getAllNetProduction() {
         Map<ResourceType, Integer> netProduction = new EnumMap<>(ResourceType.class);
 
-        for (ResourceType type : ResourceType.values()) {
-            netProduction.put(type, getNetProduction(type));
+        for (ResourceType type : RESOURCE_TYPES) {
+            netProduction.put(type, ledger.getNetProduction(type));
         }
 
         return netProduction;
@@ -145,16 +156,20 @@ public class ResourceManager implements Serializable {
      * @return The storage capacity
      */
     public int getCapacity(ResourceType type) {
-        return capacity.getOrDefault(type, 0);
+        return ledger.getCapacity(type);
     }
 
     /**
      * Gets a map of all storage capacities.
      *
-     * @return A defensive copy of the capacity map
+     * @return A new map of the storage capacities
      */
     public Map<ResourceType, Integer> getAllCapacity() {
-        return new EnumMap<>(capacity);
+        Map<ResourceType, Integer> result = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : RESOURCE_TYPES) {
+            result.put(type, ledger.getCapacity(type));
+        }
+        return result;
     }
 
     /**
@@ -164,7 +179,7 @@ public class ResourceManager implements Serializable {
      * @return The production amount
      */
     public int getProduction(ResourceType type) {
-        return production.getOrDefault(type, 0);
+        return ledger.getProduction(type);
     }
 
     /**
@@ -174,7 +189,7 @@ public class ResourceManager implements Serializable {
      * @return The consumption amount
      */
     public int getConsumption(ResourceType type) {
-        return consumption.getOrDefault(type, 0);
+        return ledger.getConsumption(type);
     }
 
     /**
@@ -184,7 +199,7 @@ public class ResourceManager implements Serializable {
      * @return The net production
      */
     public int getNetProduction(ResourceType type) {
-        return getProduction(type) - getConsumption(type);
+        return ledger.getNetProduction(type);
     }
 
     /**
@@ -203,27 +218,29 @@ public class ResourceManager implements Serializable {
             return Result.failure("Amount must be positive");
         }
 
-        int current = resources.getOrDefault(type, 0);
-        int cap = capacity.getOrDefault(type, 0);
+        int current = ledger.getStock(type);
+        int cap = ledger.getCapacity(type);
 
         if (type.isStorable() && current + amount > cap) {
-            resources.put(type, cap);
+            ledger.setStock(type, cap);
 
             int actualAdded = cap - current;
             LOGGER.warning(String.format("Resource %s at capacity: %d/%d. Wasted %d units",
                     type.getName(), cap, cap, amount - actualAdded));
 
-            eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, cap, current));
+            publishResourceChanged(type, cap, current, false);
 
             return Result.failure(String.format("Storage at capacity. Added %d of %d %s",
                     actualAdded, amount, type.getName()));
         } else {
-            resources.put(type, current + amount);
+            ledger.setStock(type, current + amount);
 
-            LOGGER.fine(String.format("Added %d %s. New total: %d",
-                    amount, type.getName(), current + amount));
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format("Added %d %s. New total: %d",
+                        amount, type.getName(), current + amount));
+            }
 
-            eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, current + amount, current));
+            publishResourceChanged(type, current + amount, current, false);
 
             return Result.success(amount);
         }
@@ -245,26 +262,112 @@ public class ResourceManager implements Serializable {
             return Result.failure("Amount must be positive");
         }
 
-        int current = resources.getOrDefault(type, 0);
+        int current = ledger.getStock(type);
 
         if (current < amount) {
             String error = String.format("Not enough %s: %d/%d needed",
                     type.getName(), current, amount);
             LOGGER.warning(error);
-            resources.put(type, 0);
+            ledger.setStock(type, 0);
             return Result.failure(error);
         }
 
-        resources.put(type, current - amount);
+        ledger.setStock(type, current - amount);
 
-        LOGGER.fine(String.format("Removed %d %s. New total: %d",
-                amount, type.getName(), current - amount));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Removed %d %s. New total: %d",
+                    amount, type.getName(), current - amount));
+        }
 
-        eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, current - amount, current));
+        publishResourceChanged(type, current - amount, current, false);
 
         return Result.success(amount);
     }
 
+    /**
+     * Finds the first resource in a cost that the stockpile cannot cover.
+     *
+     * @param cost The resource amounts required
+     * @return The first resource type that is short, or null if the cost is affordable
+     */
+    public ResourceType findShortfall(Map<ResourceType, Integer> cost) {
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            if (ledger.getStock(entry.getKey()) < entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the stockpile covers every resource in a cost.
+     *
+     * @param cost The resource amounts required
+     * @return true if the whole cost can be paid, false otherwise
+     */
+    public boolean canAfford(Map<ResourceType, Integer> cost) {
+        return findShortfall(cost) == null;
+    }
+
+    /**
+     * Removes a whole cost from the stockpile as a single transaction.
+     * Either every resource is debited or, if any is short, none is.
+     * Publishes one resources updated event for the whole cost instead of one event per resource.
+     *
+     * @param cost The resource amounts to remove
+     * @return A Result indicating success, or the first resource that could not be covered
+     */
+    public Result<Boolean> spendResources(Map<ResourceType, Integer> cost) {
+        if (cost == null) {
+            return Result.failure("Cost cannot be null");
+        }
+
+        int[] debits = new int[RESOURCE_TYPES.length];
+
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            ResourceType type = entry.getKey();
+            int amount = entry.getValue();
+
+            if (type == null) {
+                return Result.failure("Resource type cannot be null");
+            }
+
+            if (amount < 0) {
+                return Result.failure("Cost of " + type.getName() + " cannot be negative");
+            }
+
+            debits[type.ordinal()] += amount;
+        }
+
+        // Check the whole cost before touching the stockpile, so a failure leaves nothing to undo
+        for (ResourceType type : RESOURCE_TYPES) {
+            int current = ledger.getStock(type);
+            int amount = debits[type.ordinal()];
+
+            if (current < amount) {
+                String error = String.format("Not enough %s: %d/%d needed",
+                        type.getName(), current, amount);
+                LOGGER.warning(error);
+                return Result.failure(error);
+            }
+        }
+
+        for (ResourceType type : RESOURCE_TYPES) {
+            int amount = debits[type.ordinal()];
+            if (amount > 0) {
+                ledger.setStock(type, ledger.getStock(type) - amount);
+            }
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Spent resources: " + cost);
+        }
+
+        publishResourcesUpdated();
+
+        return Result.success(true);
+    }
+
     /**
      * Sets the production rate for a resource.
      *
@@ -272,12 +375,14 @@ public class ResourceManager implements Serializable {
      * @param value The production value
      */
     public void setProduction(ResourceType type, int value) {
-        int previousValue = production.getOrDefault(type, 0);
-        production.put(type, value);
-        LOGGER.fine(String.format("Set %s production to %d",
-                type.getName(), value));
+        int previousValue = ledger.getProduction(type);
+        ledger.setProduction(type, value);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Set %s production to %d",
+                    type.getName(), value));
+        }
 
-        eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, value, previousValue, true));
+        publishResourceChanged(type, value, previousValue, true);
     }
 
     /**
@@ -287,10 +392,11 @@ public class ResourceManager implements Serializable {
      * @param value The consumption value
      */
     public void setConsumption(ResourceType type, int value) {
-        int previousValue = consumption.getOrDefault(type, 0);
-        consumption.put(type, value);
-        LOGGER.fine(String.format("Set %s consumption to %d",
-                type.getName(), value));
+        ledger.setConsumption(type, value);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Set %s consumption to %d",
+                    type.getName(), value));
+        }
 
         publishResourcesUpdated();
     }
@@ -303,9 +409,8 @@ public class ResourceManager implements Serializable {
      * @return The new capacity
      */
     public int increaseCapacity(ResourceType type, int amount) {
-        int current = capacity.getOrDefault(type, 0);
-        int newCapacity = current + amount;
-        capacity.put(type, newCapacity);
+        int newCapacity = ledger.getCapacity(type) + amount;
+        ledger.setCapacity(type, newCapacity);
 
         LOGGER.info(String.format("Increased %s capacity by %d. New capacity: %d",
                 type.getName(), amount, newCapacity));
@@ -327,14 +432,16 @@ public class ResourceManager implements Serializable {
             throw new IllegalArgumentException("Resource type cannot be null");
         }
 
-        int currentProduction = production.getOrDefault(type, 0);
+        int currentProduction = ledger.getProduction(type);
         int newProduction = currentProduction + amount;
-        production.put(type, newProduction);
+        ledger.setProduction(type, newProduction);
 
-        LOGGER.fine(String.format("Added %d to %s production. New production: %d",
-                amount, type.getName(), newProduction));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Added %d to %s production. New production: %d",
+                    amount, type.getName(), newProduction));
+        }
 
-        eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, newProduction, currentProduction, true));
+        publishResourceChanged(type, newProduction, currentProduction, true);
 
         return newProduction;
     }
@@ -351,12 +458,13 @@ public class ResourceManager implements Serializable {
             throw new IllegalArgumentException("Resource type cannot be null");
         }
 
-        int currentConsumption = consumption.getOrDefault(type, 0);
-        int newConsumption = currentConsumption + amount;
-        consumption.put(type, newConsumption);
+        int newConsumption = ledger.getConsumption(type) + amount;
+        ledger.setConsumption(type, newConsumption);
 
-        LOGGER.fine(String.format("Added %d to %s consumption. New consumption: %d",
-                amount, type.getName(), newConsumption));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Added %d to %s consumption. New consumption: %d",
+                    amount, type.getName(), newConsumption));
+        }
 
         publishResourcesUpdated();
 
@@ -379,14 +487,16 @@ public class ResourceManager implements Serializable {
             throw new IllegalArgumentException("Amount must be positive");
         }
 
-        int currentProduction = production.getOrDefault(type, 0);
+        int currentProduction = ledger.getProduction(type);
         int newProduction = Math.max(0, currentProduction - amount);
-        production.put(type, newProduction);
+        ledger.setProduction(type, newProduction);
 
-        LOGGER.fine(String.format("Removed %d from %s production. New production: %d",
-                amount, type.getName(), newProduction));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Removed %d from %s production. New production: %d",
+                    amount, type.getName(), newProduction));
+        }
 
-        eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, newProduction, currentProduction, true));
+        publishResourceChanged(type, newProduction, currentProduction, true);
 
         return newProduction;
     }
@@ -407,12 +517,13 @@ public class ResourceManager implements Serializable {
             throw new IllegalArgumentException("Amount must be positive");
         }
 
-        int currentConsumption = consumption.getOrDefault(type, 0);
-        int newConsumption = Math.max(0, currentConsumption - amount);
-        consumption.put(type, newConsumption);
+        int newConsumption = Math.max(0, ledger.getConsumption(type) - amount);
+        ledger.setConsumption(type, newConsumption);
 
-        LOGGER.fine(String.format("Removed %d from %s consumption. New consumption: %d",
-                amount, type.getName(), newConsumption));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Removed %d from %s consumption. New consumption: %d",
+                    amount, type.getName(), newConsumption));
+        }
 
         publishResourcesUpdated();
 
@@ -503,14 +614,12 @@ public class ResourceManager implements Serializable {
     public void processTurn() {
         LOGGER.info("Processing resource turn");
 
-        for (ResourceType type : ResourceType.values()) {
-            lastTurnResources.put(type, resources.get(type));
-        }
+        ledger.recordTurnStart();
 
         StringBuilder resourceReport = new StringBuilder("Resource changes:\n");
 
-        for (ResourceType type : ResourceType.values()) {
-            int net = getNetProduction(type);
+        for (ResourceType type : RESOURCE_TYPES) {
+            int net = ledger.getNetProduction(type);
 
             if (net > 0) {
                 Result<Integer> result = addResource(type, net);
@@ -548,33 +657,84 @@ public class ResourceManager implements Serializable {
     public Map<ResourceType, Integer> getResourceChanges() {
         Map<ResourceType, Integer> changes = new EnumMap<>(ResourceType.class);
 
-        for (ResourceType type : ResourceType.values()) {
-            int current = resources.get(type);
-            int previous = lastTurnResources.get(type);
-            changes.put(type, current - previous);
+        for (ResourceType type : RESOURCE_TYPES) {
+            changes.put(type, ledger.getStock(type) - ledger.getLastTurnStock(type));
         }
 
         return changes;
     }
 
     /**
-     * Publishes a resources updated event to refresh the UI.
+     * Starts holding back resource change events.
+     * Until the matching {@link #endBatch()}, changes are applied to the ledger but not published.
+     * Batches may be nested; only the outermost one publishes.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchStart = getSnapshot();
+        }
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}.
+     * When the outermost batch ends, publishes a single delta event covering every
+     * resource that changed during the batch, or nothing if no resource changed.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            LOGGER.warning("endBatch called without a matching beginBatch");
+            return;
+        }
+
+        if (--batchDepth > 0) {
+            return;
+        }
+
+        ResourceSnapshot previous = batchStart;
+        ResourceSnapshot current = getSnapshot();
+        batchStart = null;
+
+        int changedTypes = current.getChangedTypes(previous);
+        if (changedTypes != 0 || current.getAvailableWorkers() != previous.getAvailableWorkers()) {
+            eventBus.publish(new ResourceEvents.ResourceDeltaEvent(previous, current, changedTypes));
+        }
+    }
+
+    /**
+     * Checks whether resource change events are currently being held back.
+     *
+     * @return true if inside a batch, false otherwise
+     */
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Publishes a single resource change, unless a batch is collecting changes.
+     */
+    private void publishResourceChanged(ResourceType type, int newAmount, int previousAmount, boolean isProduction) {
+        if (batchDepth == 0) {
+            eventBus.publish(new ResourceEvents.ResourceChangedEvent(type, newAmount, previousAmount, isProduction));
+        }
+    }
+
+    /**
+     * Publishes a resources updated event to refresh the UI, unless a batch is collecting changes.
      */
     private void publishResourcesUpdated() {
-        eventBus.publish(new ResourceEvents.ResourcesUpdatedEvent(
-                new EnumMap<>(resources),
-                getAllNetProduction(),
-                new EnumMap<>(capacity),
-                getAvailableWorkers(),
-                assignedWorkers
-        ));
+        if (batchDepth == 0) {
+            eventBus.publish(new ResourceEvents.ResourcesUpdatedEvent(getSnapshot()));
+        }
     }
 
-    @Serial
-    private void readObject(ObjectInputStream in) throws ClassNotFoundException, IOException {
-        in.defaultReadObject();
-        this.eventBus = EventBus.getInstance();
-        LOGGER.info("ResourceManager deserialized and transient fields reinitialized");
+    /**
+     * Sets the event bus to publish to.
+     * Should be called after loading a game.
+     *
+     * @param eventBus The event bus of the owning game
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
     }
 
     /**
@@ -582,12 +742,6 @@ public class ResourceManager implements Serializable {
      * Call this when initializing UI or after loading a game.
      */
     public void publishCurrentState() {
-        eventBus.publish(new ResourceEvents.ResourcesUpdatedEvent(
-                new EnumMap<>(resources),
-                getAllNetProduction(),
-                new EnumMap<>(capacity),
-                getAvailableWorkers(),
-                assignedWorkers
-        ));
+        eventBus.publish(new ResourceEvents.ResourcesUpdatedEvent(getSnapshot()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.colonygenesis.resource;
+
+/**
+ * Immutable view of a colony's resources at one point in time.
+ * Created by {@link ResourceLedger#snapshot} and handed to the user interface,
+ * which may read it on any thread.
+ */
+public final class ResourceSnapshot {
+    private final int[] amounts;
+    private final int[] netProduction;
+    private final int[] capacities;
+    private final int availableWorkers;
+    private final int assignedWorkers;
+
+    /**
+     * Creates a snapshot that takes ownership of the specified arrays.
+     *
+     * @param amounts The resource amounts, indexed by resource type ordinal
+     * @param netProduction The net production rates, indexed by resource type ordinal
+     * @param capacities The storage capacities, indexed by resource type ordinal
+     * @param availableWorkers The number of available workers
+     * @param assignedWorkers The number of assigned workers
+     */
+    ResourceSnapshot(int[] amounts, int[] netProduction, int[] capacities,
+                     int availableWorkers, int assignedWorkers) {
+        this.amounts = amounts;
+        this.netProduction = netProduction;
+        this.capacities = capacities;
+        this.availableWorkers = availableWorkers;
+        this.assignedWorkers = assignedWorkers;
+    }
+
+    public int getAmount(ResourceType type) {
+        return amounts[type.ordinal()];
+    }
+
+    public int getNetProduction(ResourceType type) {
+        return netProduction[type.ordinal()];
+    }
+
+    public int getCapacity(ResourceType type) {
+        return capacities[type.ordinal()];
+    }
+
+    public int getAvailableWorkers() {
+        return availableWorkers;
+    }
+
+    public int getAssignedWorkers() {
+        return assignedWorkers;
+    }
+
+    /**
+     * Computes which resources differ from an earlier snapshot.
+     * A resource counts as changed if its amount, net production or capacity differs.
+     *
+     * @param previous The earlier snapshot
+     * @return A bitmask with bit {@code 1 << type.ordinal()} set for every changed resource
+     */
+    public int getChangedTypes(ResourceSnapshot previous) {
+        int mask = 0;
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] != previous.amounts[i]
+                    || netProduction[i] != previous.netProduction[i]
+                    || capacities[i] != previous.capacities[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+}
@@ -1,24 +1,21 @@
 package com.colonygenesis.resource;
 
-import javafx.scene.paint.Color;
-
 /**
  * Enumeration of resource types in the game.
  * Each type has unique properties and uses.
  */
 public enum ResourceType {
-    FOOD("Food", "Sustains your colony population", Color.GREEN, true, true),
-    ENERGY("Energy", "Powers buildings and operations", Color.YELLOW, true, false),
-    MATERIALS("Materials", "Used for construction and maintenance", Color.BROWN, true, true),
-    WATER("Water", "Essential for life support and agriculture", Color.LIGHTBLUE, true, true),
-    RESEARCH("Research", "Advances technology", Color.PURPLE, true, false),
-    RARE_MINERALS("Rare Minerals", "Advanced construction material", Color.SILVER, false, true),
-    ALIEN_COMPOUNDS("Alien Compounds", "Mysterious alien substances", Color.MAGENTA, false, true),
-    POPULATION("Population", "Colonists who operate buildings", Color.rgb(230, 180, 180), true, true, true);
+    FOOD("Food", "Sustains your colony population", true, true),
+    ENERGY("Energy", "Powers buildings and operations", true, false),
+    MATERIALS("Materials", "Used for construction and maintenance", true, true),
+    WATER("Water", "Essential for life support and agriculture", true, true),
+    RESEARCH("Research", "Advances technology", true, false),
+    RARE_MINERALS("Rare Minerals", "Advanced construction material", false, true),
+    ALIEN_COMPOUNDS("Alien Compounds", "Mysterious alien substances", false, true),
+    POPULATION("Population", "Colonists who operate buildings", true, true, true);
 
     private final String name;
     private final String description;
-    private final Color color;
     private final boolean basic;
     private final boolean storable;
     private final int baseStorage;
@@ -28,14 +25,12 @@ public enum ResourceType {
      *
      * @param name The name of the resource
      * @param description A short description of the resource
-     * @param color The color used to represent the resource in the UI
      * @param basic Whether this is a basic resource
      * @param storable Whether this resource can be stored
      */
-    ResourceType(String name, String description, Color color, boolean basic, boolean storable, boolean isPopulation) {
+    ResourceType(String name, String description, boolean basic, boolean storable, boolean isPopulation) {
         this.name = name;
         this.description = description;
-        this.color = color;
         this.basic = basic;
         this.storable = storable;
 
@@ -52,8 +47,8 @@ public enum ResourceType {
         }
     }
 
-    ResourceType(String name, String description, Color color, boolean basic, boolean storable) {
-        this(name, description, color, basic, storable, false);
+    ResourceType(String name, String description, boolean basic, boolean storable) {
+        this(name, description, basic, storable, false);
     }
 
     /**
@@ -74,15 +69,6 @@ public enum ResourceType {
         return description;
     }
 
-    /**
-     * Gets the color associated with the resource.
-     *
-     * @return The resource color
-     */
-    public Color getColor() {
-        return color;
-    }
-
     /**
      * Checks if this is a basic resource.
      * Basic resources are easier to produce and essential for colony operation.
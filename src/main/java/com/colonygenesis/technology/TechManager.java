@@ -3,7 +3,6 @@ package com.colonygenesis.technology;
 import com.colonygenesis.building.BuildingType;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.resource.ResourceType;
-import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.util.LoggerUtil;
 import com.colonygenesis.util.Result;
 
@@ -33,8 +32,6 @@ public class TechManager implements Serializable {
     private double populationGrowthModifier = 1.0;
     private double baseEfficiencyWithoutWorkers = 0.0;  // Buildings don't work without workers by default
 
-    private transient EventBus eventBus;
-
     public TechManager(Game game) {
         this.game = game;
         this.techTree = new TechnologyTree();
@@ -45,7 +42,6 @@ public class TechManager implements Serializable {
         this.workerReductions = new HashMap<>();
         this.constructionCostModifiers = new HashMap<>();
         this.constructionTimeModifiers = new HashMap<>();
-        this.eventBus = EventBus.getInstance();
         initializeTechTree();
     }
 
@@ -67,13 +63,7 @@ public class TechManager implements Serializable {
         }
 
         // Check resource costs
-        for (Map.Entry<ResourceType, Integer> entry : tech.getResourceCosts().entrySet()) {
-            if (game.getResourceManager().getResource(entry.getKey()) < entry.getValue()) {
-                return false;
-            }
-        }
-
-        return true;
+        return game.getResourceManager().canAfford(tech.getResourceCosts());
     }
 
     public Result<Technology> researchTechnology(String techId) {
@@ -87,11 +77,9 @@ public class TechManager implements Serializable {
         }
 
         // Deduct resources
-        for (Map.Entry<ResourceType, Integer> entry : tech.getResourceCosts().entrySet()) {
-            Result<Integer> result = game.getResourceManager().removeResource(entry.getKey(), entry.getValue());
-            if (result.isFailure()) {
-                return Result.failure("Failed to deduct resources: " + result.getErrorMessage());
-            }
+        Result<Boolean> payment = game.getResourceManager().spendResources(tech.getResourceCosts());
+        if (payment.isFailure()) {
+            return Result.failure("Failed to deduct resources: " + payment.getErrorMessage());
         }
 
         // Mark as researched
@@ -108,7 +96,7 @@ public class TechManager implements Serializable {
         }
 
         // Fire event
-        eventBus.publish(new TechEvents.TechnologyResearchedEvent(tech));
+        game.getEventBus().publish(new TechEvents.TechnologyResearchedEvent(tech));
 
         LOGGER.info("Technology researched: " + tech.getName());
         return Result.success(tech);
@@ -240,10 +228,4 @@ public class TechManager implements Serializable {
     public Set<String> getResearchedTechs() {
         return new HashSet<>(researchedTechs);
     }
-
-    @Serial
-    private void readObject(ObjectInputStream in) throws ClassNotFoundException, IOException {
-        in.defaultReadObject();
-        this.eventBus = EventBus.getInstance();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.colonygenesis.ui;
+
+import com.colonygenesis.util.LoggerUtil;
+import javafx.animation.AnimationTimer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Delivers user interface updates on the JavaFX thread once per rendered frame.
+ * <p>
+ * Event handlers run on whichever thread published the event. Instead of queueing
+ * a {@code Platform.runLater} call per event, they post an update here under an
+ * owner and a key, such as a tile or a label group. Updates posted under the same
+ * owner and key before the next frame replace each other, so a burst of events
+ * produces at most one update per key per frame. Updates run in the order their
+ * key was first posted.
+ */
+public class FxEventDispatcher {
+    private static final Logger LOGGER = LoggerUtil.getLogger(FxEventDispatcher.class);
+
+    private final Object lock = new Object();
+    private final AnimationTimer timer;
+
+    private Map<UpdateKey, Runnable> pending = new LinkedHashMap<>();
+    private Map<UpdateKey, Runnable> draining = new LinkedHashMap<>();
+    private long coalescedCount;
+
+    /**
+     * Key of a coalesced update.
+     *
+     * @param owner The component that posted the update
+     * @param key The part of the component the update refreshes
+     */
+    private record UpdateKey(Object owner, Object key) {}
+
+    /**
+     * Constructs a stopped dispatcher.
+     */
+    public FxEventDispatcher() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drain();
+            }
+        };
+    }
+
+    /**
+     * Starts delivering updates on every frame.
+     * Must be called on the JavaFX thread.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops delivering updates and discards any that are still pending.
+     * Must be called on the JavaFX thread.
+     */
+    public void stop() {
+        timer.stop();
+        synchronized (lock) {
+            pending.clear();
+        }
+    }
+
+    /**
+     * Schedules an update for the next frame, replacing any update
+     * still pending for the same owner and key.
+     *
+     * @param owner The component that posts the update
+     * @param key The part of the component the update refreshes
+     * @param update The update to run on the JavaFX thread
+     */
+    public void post(Object owner, Object key, Runnable update) {
+        UpdateKey updateKey = new UpdateKey(owner, key);
+        synchronized (lock) {
+            if (pending.put(updateKey, update) != null) {
+                coalescedCount++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of updates that were replaced before they ran.
+     *
+     * @return The number of coalesced updates
+     */
+    public long getCoalescedCount() {
+        synchronized (lock) {
+            return coalescedCount;
+        }
+    }
+
+    /**
+     * Runs every update posted since the previous frame.
+     * Updates posted while draining run on the next frame.
+     */
+    private void drain() {
+        Map<UpdateKey, Runnable> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = draining;
+            draining = batch;
+        }
+
+        for (Runnable update : batch.values()) {
+            try {
+                update.run();
+            } catch (Exception e) {
+                LOGGER.warning("Error running UI update: " + e.getMessage());
+            }
+        }
+        batch.clear();
+    }
+}
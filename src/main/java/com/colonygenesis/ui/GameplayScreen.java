@@ -33,6 +33,8 @@ import java.util.logging.Logger;
 public class GameplayScreen extends BorderPane implements IScreenController {
     private static final Logger LOGGER = LoggerUtil.getLogger(GameplayScreen.class);
 
+    private static final String TURN_INFO_KEY = "turnInfo";
+
     private Game game;
     private MapView mapView;
     private boolean hasShownInitially = false;
@@ -44,7 +46,9 @@ public class GameplayScreen extends BorderPane implements IScreenController {
 
     private DebugOverlay debugOverlay;
     private final KeyCombination debugToggleKey = new KeyCodeCombination(KeyCode.F3);
-    private final EventBus eventBus = EventBus.getInstance();
+    private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
+    private final FxEventDispatcher dispatcher;
 
     private Tile selectedTile;
     private AlienCompoundPanel alienCompoundPanel;
@@ -58,6 +62,9 @@ public class GameplayScreen extends BorderPane implements IScreenController {
      */
     public GameplayScreen(Game game) {
         this.game = game;
+        this.eventBus = game.getEventBus();
+        this.subscriptions = new SubscriptionGroup(eventBus);
+        this.dispatcher = new FxEventDispatcher();
         LOGGER.info("Creating gameplay screen for colony: " + game.getColonyName() +
                 ", Turn: " + game.getCurrentTurn());
 
@@ -70,64 +77,55 @@ public class GameplayScreen extends BorderPane implements IScreenController {
         setupNotificationManager();
         setupKeyboardShortcuts();
         initializeEventSubscriptions();
+        dispatcher.start();
     }
 
     /**
      * Initializes all event subscriptions for reactive updates.
      */
     private void initializeEventSubscriptions() {
-        // Resource-related events
-        eventBus.subscribe(ResourceEvents.ResourcesUpdatedEvent.class, this::handleResourcesUpdated);
         // Turn-related events
-        eventBus.subscribe(TurnEvents.TurnAdvancedEvent.class, this::handleTurnAdvanced);
-        eventBus.subscribe(TurnEvents.PhaseChangedEvent.class, this::handlePhaseChanged);
+        subscriptions.subscribe(TurnEvents.TurnAdvancedEvent.class, this::handleTurnAdvanced);
+        subscriptions.subscribe(TurnEvents.PhaseChangedEvent.class, this::handlePhaseChanged);
 
         // Building-related events
-        eventBus.subscribe(BuildingEvents.BuildingPlacedEvent.class, this::handleBuildingPlaced);
-        eventBus.subscribe(BuildingEvents.BuildingCompletedEvent.class, this::handleBuildingCompleted);
-        eventBus.subscribe(BuildingEvents.BuildingActivatedEvent.class, this::handleBuildingActivated);
-        eventBus.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, this::handleBuildingDeactivated);
-        eventBus.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, this::handleBuildingConstructionProgress);
+        subscriptions.subscribe(BuildingEvents.BuildingPlacedEvent.class, this::handleBuildingPlaced);
+        subscriptions.subscribe(BuildingEvents.BuildingCompletedEvent.class, this::handleBuildingCompleted);
+        subscriptions.subscribe(BuildingEvents.BuildingActivatedEvent.class, this::handleBuildingActivated);
+        subscriptions.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, this::handleBuildingDeactivated);
+        subscriptions.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, this::handleBuildingConstructionProgress);
 
         // Tile-related events
-        eventBus.subscribe(TileEvents.TileSelectedEvent.class, this::handleTileSelected);
-        eventBus.subscribe(TileEvents.ColonizeTileEvent.class, this::handleColonizeTile);
-        eventBus.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
+        subscriptions.subscribe(TileEvents.TileSelectedEvent.class, this::handleTileSelected);
+        subscriptions.subscribe(TileEvents.ColonizeTileEvent.class, this::handleColonizeTile);
+        subscriptions.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
 
         // Colony-related events
-        eventBus.subscribe(ColonyEvents.PopulationChangedEvent.class, this::handlePopulationChanged);
-        eventBus.subscribe(ColonyEvents.WorkerAvailabilityChangedEvent.class, this::handleWorkerAvailabilityChanged);
-
-        eventBus.subscribe(VictoryEvents.VictoryAchievedEvent.class, this::handleVictoryAchieved);
-        eventBus.subscribe(VictoryEvents.GameOverEvent.class, this::handleGameOver);
-    }
+        subscriptions.subscribe(ColonyEvents.PopulationChangedEvent.class, this::handlePopulationChanged);
+        subscriptions.subscribe(ColonyEvents.WorkerAvailabilityChangedEvent.class, this::handleWorkerAvailabilityChanged);
 
-    /**
-     * Handles updates to resources.
-     */
-    private void handleResourcesUpdated(ResourceEvents.ResourcesUpdatedEvent event) {
-        Platform.runLater(() -> resourceBar.update(event.getResources(), event.getProduction(), event.getCapacity()));
+        subscriptions.subscribe(VictoryEvents.VictoryAchievedEvent.class, this::handleVictoryAchieved);
+        subscriptions.subscribe(VictoryEvents.GameOverEvent.class, this::handleGameOver);
     }
 
     /**
      * Handles turn advancement events.
      */
     private void handleTurnAdvanced(TurnEvents.TurnAdvancedEvent event) {
-        Platform.runLater(() -> {
-            turnInfoBar.update(event.getTurnNumber(), game.getTurnManager().getCurrentPhase());
+        dispatcher.post(this, TURN_INFO_KEY, () ->
+                turnInfoBar.update(event.getTurnNumber(), game.getTurnManager().getCurrentPhase()));
 
-            eventBus.publish(NotificationEvents.Factory.info(
-                    "Turn " + event.getTurnNumber(),
-                    "A new turn has begun."
-            ));
-        });
+        Platform.runLater(() -> eventBus.publish(NotificationEvents.Factory.info(
+                "Turn " + event.getTurnNumber(),
+                "A new turn has begun."
+        )));
     }
 
     /**
      * Handles phase change events.
      */
     private void handlePhaseChanged(TurnEvents.PhaseChangedEvent event) {
-        Platform.runLater(() -> turnInfoBar.update(event.getTurnNumber(), event.getPhase()));
+        dispatcher.post(this, TURN_INFO_KEY, () -> turnInfoBar.update(event.getTurnNumber(), event.getPhase()));
     }
 
     /**
@@ -309,11 +307,11 @@ public class GameplayScreen extends BorderPane implements IScreenController {
         setTop(headerBox);
 
         // Create all components first
-        mapView = new MapView();
+        mapView = new MapView(eventBus, dispatcher);
         mapView.setGrid(game.getPlanet().getGrid());
         mapView.getStyleClass().add(AppTheme.STYLE_MAP_VIEW);
 
-        tileInfoPanel = new TileInfoPanel(game);
+        tileInfoPanel = new TileInfoPanel(game, dispatcher);
         tileInfoPanel.setMaxWidth(300);
         tileInfoPanel.setMinWidth(300);
 
@@ -322,12 +320,12 @@ public class GameplayScreen extends BorderPane implements IScreenController {
         alienCompoundPanel.setMinWidth(250);
 
         // Create debug overlay
-        debugOverlay = new DebugOverlay(game);
+        debugOverlay = new DebugOverlay(game, dispatcher);
         debugOverlay.setActive(false);
         mapView.setDebugOverlay(debugOverlay);
 
         // Create notification manager
-        notificationManager = new NotificationManager();
+        notificationManager = new NotificationManager(eventBus);
 
         // Build the layout from inside out
 
@@ -418,7 +416,7 @@ public class GameplayScreen extends BorderPane implements IScreenController {
      * @return The header HBox
      */
     private HBox createHeader() {
-        resourceBar = new ResourceBar();
+        resourceBar = new ResourceBar(eventBus, dispatcher);
 
         Label planetInfoLabel = new Label();
         planetInfoLabel.getStyleClass().add(AppTheme.STYLE_LABEL);
@@ -472,11 +470,7 @@ public class GameplayScreen extends BorderPane implements IScreenController {
         LOGGER.fine("GameplayScreen shown");
 
         if (game != null && resourceBar != null) {
-            resourceBar.update(
-                    game.getResourceManager().getAllResources(),
-                    game.getResourceManager().getAllNetProduction(),
-                    game.getResourceManager().getAllCapacity()
-            );
+            resourceBar.update(game.getResourceManager().getSnapshot());
         }
 
         assert game != null;
@@ -514,7 +508,8 @@ public class GameplayScreen extends BorderPane implements IScreenController {
     public void dispose() {
         LOGGER.info("Disposing GameplayScreen resources");
 
-        eventBus.unsubscribeAll(this);
+        subscriptions.dispose();
+        dispatcher.stop();
 
         // Dispose components
         if (mapView != null) {
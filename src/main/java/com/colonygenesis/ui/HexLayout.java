@@ -0,0 +1,148 @@
+package com.colonygenesis.ui;
+
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Geometry of the flat-topped hexagon layout used to draw the map.
+ * <p>
+ * Columns are 1.5 hex sizes apart and odd columns are shifted down by half a hex height,
+ * matching the offset coordinates of {@link com.colonygenesis.map.HexGrid}. All positions
+ * are in world units, before the view's pan and zoom are applied.
+ */
+public class HexLayout {
+    private static final double SQRT_3 = Math.sqrt(3);
+
+    private final double size;
+    private final double hexHeight;
+    private final double[] cornerX = new double[6];
+    private final double[] cornerY = new double[6];
+
+    /**
+     * Offset coordinates of a hexagon, which may lie outside the grid.
+     */
+    public record Offset(int x, int y) {}
+
+    /**
+     * Creates a layout.
+     *
+     * @param size The distance from a hexagon's center to its corners
+     */
+    public HexLayout(double size) {
+        this.size = size;
+        this.hexHeight = size * SQRT_3;
+
+        for (int i = 0; i < 6; i++) {
+            double angle = 2 * Math.PI / 6 * i;
+            cornerX[i] = size * Math.cos(angle);
+            cornerY[i] = size * Math.sin(angle);
+        }
+    }
+
+    public double getSize() {
+        return size;
+    }
+
+    public double getHexHeight() {
+        return hexHeight;
+    }
+
+    public double centerX(int x) {
+        return x * size * 1.5;
+    }
+
+    public double centerY(int x, int y) {
+        double centerY = y * hexHeight;
+        if (x % 2 == 1) {
+            centerY += hexHeight / 2;
+        }
+        return centerY;
+    }
+
+    /**
+     * Gets the first column whose hexagons can reach the given world x coordinate or beyond.
+     * Column x spans {@code [1.5 * x * size - size, 1.5 * x * size + size]}.
+     */
+    public int firstColumn(double minX) {
+        return (int) Math.ceil((minX - size) / (size * 1.5));
+    }
+
+    /**
+     * Gets the last column whose hexagons can reach the given world x coordinate or before.
+     */
+    public int lastColumn(double maxX) {
+        return (int) Math.floor((maxX + size) / (size * 1.5));
+    }
+
+    /**
+     * Gets the first row whose hexagons can reach the given world y coordinate or beyond.
+     * Row y spans at most {@code [y * h - h / 2, y * h + h]}, allowing for the odd column offset.
+     */
+    public int firstRow(double minY) {
+        return (int) Math.ceil((minY - hexHeight) / hexHeight);
+    }
+
+    /**
+     * Gets the last row whose hexagons can reach the given world y coordinate or before.
+     */
+    public int lastRow(double maxY) {
+        return (int) Math.floor((maxY + hexHeight / 2) / hexHeight);
+    }
+
+    /**
+     * Finds the hexagon containing a world position.
+     * <p>
+     * The position is converted to fractional cube coordinates and rounded to the
+     * nearest hex. Rounding each cube component picks one of the three hexes around the
+     * nearest corner; resetting the component with the largest rounding error restores
+     * {@code q + r + s = 0} and selects the hex that actually contains the point.
+     *
+     * @param worldX The x coordinate in world units
+     * @param worldY The y coordinate in world units
+     * @return The offset coordinates of the containing hexagon
+     */
+    public Offset offsetAt(double worldX, double worldY) {
+        // Flat-topped axial coordinates
+        double q = worldX * 2.0 / 3.0 / size;
+        double r = (-worldX / 3.0 + worldY / SQRT_3) / size;
+        double s = -q - r;
+
+        long roundedQ = Math.round(q);
+        long roundedR = Math.round(r);
+        long roundedS = Math.round(s);
+
+        double errorQ = Math.abs(roundedQ - q);
+        double errorR = Math.abs(roundedR - r);
+        double errorS = Math.abs(roundedS - s);
+
+        if (errorQ > errorR && errorQ > errorS) {
+            roundedQ = -roundedR - roundedS;
+        } else if (errorR > errorS) {
+            roundedR = -roundedQ - roundedS;
+        }
+
+        // Odd columns are shifted down half a hex
+        long x = roundedQ;
+        long y = roundedR + (roundedQ - (roundedQ & 1)) / 2;
+        return new Offset((int) x, (int) y);
+    }
+
+    /**
+     * Starts a new path on the graphics context tracing the outline of a hexagon.
+     * The caller fills or strokes it.
+     *
+     * @param gc The graphics context
+     * @param x The column of the hexagon
+     * @param y The row of the hexagon
+     */
+    public void tracePath(GraphicsContext gc, int x, int y) {
+        double centerX = centerX(x);
+        double centerY = centerY(x, y);
+
+        gc.beginPath();
+        gc.moveTo(centerX + cornerX[0], centerY + cornerY[0]);
+        for (int i = 1; i < 6; i++) {
+            gc.lineTo(centerX + cornerX[i], centerY + cornerY[i]);
+        }
+        gc.closePath();
+    }
+}
@@ -3,6 +3,7 @@ package com.colonygenesis.ui;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.core.GameState;
 import com.colonygenesis.ui.styling.AppTheme;
+import com.colonygenesis.util.DialogUtil;
 import com.colonygenesis.util.LoggerUtil;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -117,6 +118,11 @@ public class LoadGameScreen extends BorderPane implements IScreenController {
 
             Game loadedGame = Game.loadGame(selected.filename());
             if (loadedGame != null) {
+                if (loadedGame.isRecoveredFromLoadError()) {
+                    DialogUtil.showMessageDialog("Loading Error",
+                            "The save file could not be loaded. A new game has been created.");
+                }
+
                 ScreenManager.getInstance().setCurrentGame(loadedGame);
 
                 ScreenManager.getInstance().removeScreen(GameState.GAMEPLAY);
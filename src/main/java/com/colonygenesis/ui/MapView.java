@@ -1,14 +1,15 @@
 package com.colonygenesis.ui;
 
+import com.colonygenesis.building.AbstractBuilding;
 import com.colonygenesis.map.HexGrid;
-import com.colonygenesis.map.TerrainType;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.ui.debug.DebugOverlay;
 import com.colonygenesis.ui.events.BuildingEvents;
 import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.events.TileEvents;
+import com.colonygenesis.ui.styling.AppTheme;
 import com.colonygenesis.util.LoggerUtil;
-import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.MouseButton;
@@ -18,11 +19,19 @@ import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.TextAlignment;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
  * Map view component that displays the game world as a hexagonal grid.
  * Supports panning and zooming functionality.
+ * Redraw requests mark the view or individual tiles dirty and are rendered once per frame.
  */
 public class MapView extends Pane {
     private static final Logger LOGGER = LoggerUtil.getLogger(MapView.class);
@@ -31,8 +40,22 @@ public class MapView extends Pane {
     private final GraphicsContext gc;
     private HexGrid grid;
     private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
+    private final FxEventDispatcher dispatcher;
+
+    private static final Object MAP_KEY = new Object();
+    /** Beyond this many dirty tiles in one frame, a full redraw is cheaper. */
+    private static final int MAX_DIRTY_TILES = 64;
+
+    private final Object renderLock = new Object();
+    private boolean fullRedrawPending;
+    private final Set<Tile> dirtyTiles = new LinkedHashSet<>();
 
     private final double hexSize = 30.0;
+    private final HexLayout layout = new HexLayout(hexSize);
+    private final TerrainLayerCache terrainLayer = new TerrainLayerCache(layout);
+    /** Tiles whose cached terrain must be re-rendered, queued from any thread. */
+    private final Queue<Tile> staleTiles = new ConcurrentLinkedQueue<>();
 
     private double translateX = 0;
     private double translateY = 0;
@@ -52,15 +75,20 @@ public class MapView extends Pane {
 
     /**
      * Constructs a new map view and initializes the UI components.
+     *
+     * @param eventBus The event bus of the displayed game
+     * @param dispatcher The dispatcher that delivers redraws once per frame
      */
-    public MapView() {
+    public MapView(EventBus eventBus, FxEventDispatcher dispatcher) {
         canvas = new Canvas();
         canvas.widthProperty().bind(widthProperty());
         canvas.heightProperty().bind(heightProperty());
         getChildren().add(canvas);
 
         gc = canvas.getGraphicsContext2D();
-        eventBus = EventBus.getInstance();
+        this.eventBus = eventBus;
+        this.subscriptions = new SubscriptionGroup(eventBus);
+        this.dispatcher = dispatcher;
 
         setOnMousePressed(this::handleMousePressed);
         setOnMouseDragged(this::handleMouseDragged);
@@ -69,8 +97,8 @@ public class MapView extends Pane {
         setOnMouseClicked(this::handleMouseClicked);
         setOnScroll(this::handleScroll);
 
-        widthProperty().addListener((obs, oldVal, newVal) -> draw());
-        heightProperty().addListener((obs, oldVal, newVal) -> draw());
+        widthProperty().addListener((obs, oldVal, newVal) -> requestRedraw());
+        heightProperty().addListener((obs, oldVal, newVal) -> requestRedraw());
 
         initializeEventSubscriptions();
     }
@@ -79,19 +107,19 @@ public class MapView extends Pane {
      * Initializes all event subscriptions for reactive updates.
      */
     private void initializeEventSubscriptions() {
-        eventBus.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
-        eventBus.subscribe(TileEvents.RefreshMapEvent.class, this::handleRefreshMap);
-
-        eventBus.subscribe(BuildingEvents.BuildingPlacedEvent.class, event ->
-                Platform.runLater(() -> renderTile(event.getTile())));
-        eventBus.subscribe(BuildingEvents.BuildingCompletedEvent.class, event ->
-                Platform.runLater(() -> renderTile(event.getTile())));
-        eventBus.subscribe(BuildingEvents.BuildingActivatedEvent.class, event ->
-                Platform.runLater(() -> renderTile(event.getTile())));
-        eventBus.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, event ->
-                Platform.runLater(() -> renderTile(event.getTile())));
-        eventBus.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, event ->
-                Platform.runLater(() -> renderTile(event.getBuilding().getLocation())));
+        subscriptions.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
+        subscriptions.subscribe(TileEvents.RefreshMapEvent.class, this::handleRefreshMap);
+
+        subscriptions.subscribe(BuildingEvents.BuildingPlacedEvent.class, event ->
+                requestTileRender(event.getTile()));
+        subscriptions.subscribe(BuildingEvents.BuildingCompletedEvent.class, event ->
+                requestTileRender(event.getTile()));
+        subscriptions.subscribe(BuildingEvents.BuildingActivatedEvent.class, event ->
+                requestTileRender(event.getTile()));
+        subscriptions.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, event ->
+                requestTileRender(event.getTile()));
+        subscriptions.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, event ->
+                requestTileRender(event.getBuilding().getLocation()));
     }
 
     /**
@@ -99,10 +127,12 @@ public class MapView extends Pane {
      */
     public void setGrid(HexGrid grid) {
         this.grid = grid;
+        terrainLayer.setGrid(grid);
+        staleTiles.clear();
         if (grid != null) {
             totalHexagons = grid.getWidth() * grid.getHeight();
         }
-        draw();
+        requestRedraw();
     }
 
     /**
@@ -113,25 +143,85 @@ public class MapView extends Pane {
     }
 
     /**
-     * Sets the selected tile and redraws the map.
+     * Sets the selected tile and redraws the previous and new selection.
      */
     public void setSelectedTile(Tile tile) {
+        Tile previous = selectedTile;
         this.selectedTile = tile;
-        draw();
+        requestTileRender(previous);
+        requestTileRender(tile);
     }
 
     /**
      * Handles the tile updated event.
      */
     private void handleTileUpdated(TileEvents.TileUpdatedEvent event) {
-        Platform.runLater(() -> renderTile(event.getTile()));
+        staleTiles.add(event.getTile());
+        requestTileRender(event.getTile());
     }
 
     /**
      * Handles the refresh map event.
      */
     private void handleRefreshMap(TileEvents.RefreshMapEvent event) {
-        Platform.runLater(this::draw);
+        requestRedraw();
+    }
+
+    /**
+     * Marks the whole view dirty. It is redrawn once on the next frame,
+     * however many redraws are requested before then.
+     * May be called from any thread.
+     */
+    public void requestRedraw() {
+        synchronized (renderLock) {
+            fullRedrawPending = true;
+            dirtyTiles.clear();
+        }
+        dispatcher.post(this, MAP_KEY, this::renderPending);
+    }
+
+    /**
+     * Marks a single tile dirty. Dirty tiles are redrawn once each on the next frame,
+     * or as part of a full redraw if one is pending or too many tiles are dirty.
+     * May be called from any thread.
+     *
+     * @param tile The tile to redraw, or null to do nothing
+     */
+    private void requestTileRender(Tile tile) {
+        if (tile == null) return;
+
+        synchronized (renderLock) {
+            if (!fullRedrawPending) {
+                dirtyTiles.add(tile);
+                if (dirtyTiles.size() > MAX_DIRTY_TILES) {
+                    fullRedrawPending = true;
+                    dirtyTiles.clear();
+                }
+            }
+        }
+        dispatcher.post(this, MAP_KEY, this::renderPending);
+    }
+
+    /**
+     * Performs the redraws requested since the last frame.
+     */
+    private void renderPending() {
+        boolean full;
+        List<Tile> tiles;
+        synchronized (renderLock) {
+            full = fullRedrawPending;
+            tiles = new ArrayList<>(dirtyTiles);
+            fullRedrawPending = false;
+            dirtyTiles.clear();
+        }
+
+        if (full) {
+            draw();
+        } else {
+            for (Tile tile : tiles) {
+                renderTile(tile);
+            }
+        }
     }
 
     /**
@@ -159,7 +249,7 @@ public class MapView extends Pane {
             lastMouseX = event.getX();
             lastMouseY = event.getY();
 
-            draw();
+            requestRedraw();
         }
     }
 
@@ -181,14 +271,15 @@ public class MapView extends Pane {
 
         Tile tile = getTileAtScreenPosition(mouseX, mouseY);
 
-        if (tile != null && tile.isRevealed()) {
-            if (hoveredTile != tile) {
-                hoveredTile = tile;
-                draw();
-            }
-        } else if (hoveredTile != null) {
-            hoveredTile = null;
-            draw();
+        if (tile == null || !tile.isRevealed()) {
+            tile = null;
+        }
+
+        if (!Objects.equals(tile, hoveredTile)) {
+            Tile previous = hoveredTile;
+            hoveredTile = tile;
+            requestTileRender(previous);
+            requestTileRender(tile);
         }
     }
 
@@ -205,8 +296,10 @@ public class MapView extends Pane {
             Tile tile = getTileAtScreenPosition(mouseX, mouseY);
 
             if (tile != null && tile.isRevealed()) {
+                Tile previous = selectedTile;
                 selectedTile = tile;
-                draw();
+                requestTileRender(previous);
+                requestTileRender(tile);
 
                 eventBus.publish(new TileEvents.TileSelectedEvent(tile));
             }
@@ -215,6 +308,7 @@ public class MapView extends Pane {
 
     /**
      * Converts screen coordinates to grid coordinates and returns the tile.
+     * This is O(1) regardless of map size; see {@link HexLayout#offsetAt(double, double)}.
      */
     private Tile getTileAtScreenPosition(double screenX, double screenY) {
         if (grid == null) return null;
@@ -222,25 +316,11 @@ public class MapView extends Pane {
         double worldX = (screenX - translateX) / scale;
         double worldY = (screenY - translateY) / scale;
 
-        double hexHeight = hexSize * Math.sqrt(3);
-
-        for (int x = 0; x < grid.getWidth(); x++) {
-            for (int y = 0; y < grid.getHeight(); y++) {
-                double centerX = x * hexSize * 1.5;
-                double centerY = y * hexHeight;
-
-                if (x % 2 == 1) {
-                    centerY += hexHeight / 2;
-                }
-
-                double distance = Math.sqrt(Math.pow(worldX - centerX, 2) + Math.pow(worldY - centerY, 2));
-                if (distance <= hexSize) {
-                    return grid.getTileAt(x, y);
-                }
-            }
+        HexLayout.Offset offset = layout.offsetAt(worldX, worldY);
+        if (!grid.contains(offset.x(), offset.y())) {
+            return null;
         }
-
-        return null;
+        return grid.getTileAt(offset.x(), offset.y());
     }
 
     /**
@@ -270,13 +350,15 @@ public class MapView extends Pane {
         translateY = mouseY - worldY * newScale;
 
         scale = newScale;
-        draw();
+        requestRedraw();
 
         event.consume();
     }
 
     /**
-     * Draws the map view and records rendering statistics.
+     * Draws the map view immediately and records rendering statistics.
+     * The terrain comes from the cached layer; only the dynamic overlays are drawn per tile.
+     * Prefer {@link #requestRedraw()}, which merges redraws into one per frame.
      */
     public void draw() {
         if (getWidth() <= 0 || getHeight() <= 0 || grid == null) return;
@@ -287,25 +369,24 @@ public class MapView extends Pane {
 
         long startTime = System.nanoTime();
 
-        gc.setFill(Color.rgb(20, 20, 30));
-        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
-        gc.save();
-        gc.translate(translateX, translateY);
-        gc.scale(scale, scale);
-
-        drawHexGrid();
-
-        gc.restore();
-
-        gc.setStroke(Color.DARKGREY);
-        gc.setLineWidth(1);
-        gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        visibleHexagons = drawRegion(0, 0, canvas.getWidth(), canvas.getHeight());
 
         lastRenderTimeNs = System.nanoTime() - startTime;
         updateDebugOverlay();
     }
 
+    /**
+     * Drops the cached terrain of updated tiles.
+     * Colonizing a tile also reveals its neighbors, so their cached fog is dropped as well.
+     */
+    private void invalidateStaleTiles() {
+        Tile tile;
+        while ((tile = staleTiles.poll()) != null) {
+            terrainLayer.invalidateTile(tile.getX(), tile.getY());
+            grid.forEachNeighbor(tile.getX(), tile.getY(), terrainLayer::invalidateTile);
+        }
+    }
+
     /**
      * Updates the debug overlay with current rendering statistics.
      */
@@ -317,145 +398,153 @@ public class MapView extends Pane {
     }
 
     /**
-     * Draws the hexagonal grid.
+     * Redraws a screen rectangle: background, cached terrain and the overlays of every
+     * hexagon that reaches into it, clipped to the rectangle so nothing outside is touched.
+     * The visible column and row ranges are derived from the view transform,
+     * so the cost depends on the area redrawn rather than the map size.
+     *
+     * @return The number of hexagons visited
      */
-    private void drawHexGrid() {
-        int width = grid.getWidth();
-        int height = grid.getHeight();
-
-        visibleHexagons = 0;
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                Tile tile = grid.getTileAt(x, y);
-                if (tile != null) {
-                    drawHexagon(tile);
-                    visibleHexagons++;
-                }
+    private int drawRegion(double left, double top, double right, double bottom) {
+        invalidateStaleTiles();
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(left, top, right - left, bottom - top);
+        gc.clip();
+
+        gc.setFill(Color.rgb(20, 20, 30));
+        gc.fillRect(left, top, right - left, bottom - top);
+
+        terrainLayer.draw(gc, translateX, translateY, scale, left, top, right, bottom);
+
+        gc.save();
+        gc.translate(translateX, translateY);
+        gc.scale(scale, scale);
+
+        int firstColumn = Math.max(0, layout.firstColumn((left - translateX) / scale));
+        int lastColumn = Math.min(grid.getWidth() - 1, layout.lastColumn((right - translateX) / scale));
+        int firstRow = Math.max(0, layout.firstRow((top - translateY) / scale));
+        int lastRow = Math.min(grid.getHeight() - 1, layout.lastRow((bottom - translateY) / scale));
+
+        for (int y = firstRow; y <= lastRow; y++) {
+            for (int x = firstColumn; x <= lastColumn; x++) {
+                drawOverlay(x, y);
             }
         }
+
+        gc.restore();
+
+        gc.setStroke(Color.DARKGREY);
+        gc.setLineWidth(1);
+        gc.strokeRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        gc.restore();
+
+        return Math.max(0, lastColumn - firstColumn + 1) * Math.max(0, lastRow - firstRow + 1);
     }
 
     /**
-     * Renders a specific tile.
+     * Renders a specific tile by redrawing its bounding box.
+     * Neighbors whose outlines reach into the box are redrawn within it too,
+     * so shared edges stay consistent. The cost is independent of the map size.
      */
     public void renderTile(Tile tile) {
         if (tile == null || getWidth() <= 0 || getHeight() <= 0 || grid == null) return;
 
-        gc.save();
-        gc.translate(translateX, translateY);
-        gc.scale(scale, scale);
-
-        drawHexagon(tile);
-
-        gc.restore();
+        // Widest overlay stroke is 2 world units, half of which lies outside the hexagon;
+        // one more pixel on each side covers antialiasing
+        double margin = 1.0;
+        double halfWidth = (hexSize + margin) * scale;
+        double halfHeight = (layout.getHexHeight() / 2 + margin) * scale;
+        double centerX = translateX + layout.centerX(tile.getX()) * scale;
+        double centerY = translateY + layout.centerY(tile.getX(), tile.getY()) * scale;
+
+        double left = Math.max(0, Math.floor(centerX - halfWidth) - 1);
+        double top = Math.max(0, Math.floor(centerY - halfHeight) - 1);
+        double right = Math.min(canvas.getWidth(), Math.ceil(centerX + halfWidth) + 1);
+        double bottom = Math.min(canvas.getHeight(), Math.ceil(centerY + halfHeight) + 1);
+
+        if (left < right && top < bottom) {
+            drawRegion(left, top, right, bottom);
+        }
     }
 
     /**
-     * Public method to re-render the entire grid.
+     * Public method to re-render the entire grid on the next frame.
      * Used by external components.
      */
     public void renderGrid() {
-        draw();
+        requestRedraw();
     }
 
     /**
-     * Draws a hexagon for the specified tile.
+     * Draws the parts of a tile that change during play on top of the cached terrain:
+     * the selection, hover and colony outlines, the colony marker, buildings and coordinates.
      */
-    private void drawHexagon(Tile tile) {
-        int gridX = tile.getX();
-        int gridY = tile.getY();
-        TerrainType terrainType = tile.getTerrainType();
-
-        double centerX = gridX * hexSize * 1.5;
-        double centerY = gridY * hexSize * Math.sqrt(3);
-
-        if (gridX % 2 == 1) {
-            centerY += hexSize * Math.sqrt(3) / 2;
+    private void drawOverlay(int gridX, int gridY) {
+        if (!grid.isRevealed(gridX, gridY)) {
+            return;
         }
 
-        double[] xPoints = new double[6];
-        double[] yPoints = new double[6];
-
-        for (int i = 0; i < 6; i++) {
-            double angle = 2 * Math.PI / 6 * i;
-            xPoints[i] = centerX + hexSize * Math.cos(angle);
-            yPoints[i] = centerY + hexSize * Math.sin(angle);
-        }
-
-        if (!tile.isRevealed()) {
-            gc.setFill(Color.rgb(10, 10, 15, 0.9));
-            gc.setStroke(Color.rgb(30, 30, 40));
-            gc.setLineWidth(1);
-        } else {
-            gc.setFill(terrainType.getColor());
-
-            boolean isSelected = (selectedTile != null &&
-                    selectedTile.getX() == tile.getX() &&
-                    selectedTile.getY() == tile.getY());
-
-            boolean isHovered = (hoveredTile != null &&
-                    hoveredTile.getX() == tile.getX() &&
-                    hoveredTile.getY() == tile.getY());
+        boolean isSelected = isAt(selectedTile, gridX, gridY);
+        boolean isHovered = isAt(hoveredTile, gridX, gridY);
+        boolean isColonized = grid.isColonized(gridX, gridY);
 
+        if (isSelected || isHovered || isColonized) {
             if (isSelected) {
                 gc.setStroke(Color.WHITE);
                 gc.setLineWidth(2);
             } else if (isHovered) {
                 gc.setStroke(Color.YELLOW);
                 gc.setLineWidth(1.5);
-            } else if (tile.isColonized()) {
+            } else {
                 gc.setStroke(Color.rgb(255, 255, 255, 0.7));
                 gc.setLineWidth(1.5);
-            } else {
-                gc.setStroke(Color.rgb(80, 80, 100));
-                gc.setLineWidth(1);
             }
+
+            layout.tracePath(gc, gridX, gridY);
+            gc.stroke();
         }
 
-        gc.beginPath();
-        gc.moveTo(xPoints[0], yPoints[0]);
+        double centerX = layout.centerX(gridX);
+        double centerY = layout.centerY(gridX, gridY);
 
-        for (int i = 1; i < 6; i++) {
-            gc.lineTo(xPoints[i], yPoints[i]);
-        }
+        if (isColonized) {
+            gc.setFill(Color.rgb(255, 255, 255, 0.8));  // Increased opacity
+            gc.fillOval(centerX - hexSize/3.5, centerY - hexSize/3.5, hexSize/1.75, hexSize/1.75);  // Larger indicator
 
-        gc.closePath();
-        gc.fill();
-        gc.stroke();
-
-        if (tile.isRevealed()) {
-            if (tile.isColonized()) {
-                gc.setFill(Color.rgb(255, 255, 255, 0.8));  // Increased opacity
-                gc.fillOval(centerX - hexSize/3.5, centerY - hexSize/3.5, hexSize/1.75, hexSize/1.75);  // Larger indicator
-
-                if (tile.hasBuilding()) {
-                    if (tile.getBuilding().isComplete()) {
-                        if (tile.getBuilding().isActive()) {
-                            gc.setFill(Color.rgb(50, 200, 50, 0.8));  // Green for active
-                        } else {
-                            gc.setFill(Color.rgb(200, 50, 50, 0.8));  // Red for inactive
-                        }
-                        gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5, hexSize/1.5);
+            AbstractBuilding building = grid.getBuilding(gridX, gridY);
+            if (building != null) {
+                if (building.isComplete()) {
+                    if (building.isActive()) {
+                        gc.setFill(Color.rgb(50, 200, 50, 0.8));  // Green for active
                     } else {
-                        gc.setFill(Color.rgb(255, 165, 0, 0.8));  // Orange for construction
-                        gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5, hexSize/1.5);
-
-                        double progress = tile.getBuilding().getConstructionProgress() / 100.0;
-                        gc.setFill(Color.rgb(50, 200, 50, 0.6));  // Green for progress
-                        gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5 * progress, hexSize/1.5);
+                        gc.setFill(Color.rgb(200, 50, 50, 0.8));  // Red for inactive
                     }
+                    gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5, hexSize/1.5);
+                } else {
+                    gc.setFill(Color.rgb(255, 165, 0, 0.8));  // Orange for construction
+                    gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5, hexSize/1.5);
+
+                    double progress = building.getConstructionProgress() / 100.0;
+                    gc.setFill(Color.rgb(50, 200, 50, 0.6));  // Green for progress
+                    gc.fillRect(centerX - hexSize/3, centerY - hexSize/3, hexSize/1.5 * progress, hexSize/1.5);
                 }
             }
+        }
 
-            if (scale > 1.5) {
-                gc.setFill(Color.WHITE);
-                gc.setTextAlign(TextAlignment.CENTER);
-                gc.fillText(gridX + "," + gridY, centerX, centerY);
-            }
+        if (scale > 1.5) {
+            gc.setFill(Color.WHITE);
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.fillText(gridX + "," + gridY, centerX, centerY);
         }
     }
 
+    private static boolean isAt(Tile tile, int x, int y) {
+        return tile != null && tile.getX() == x && tile.getY() == y;
+    }
+
     /**
      * Resets the view to center the map and reset zoom.
      */
@@ -465,18 +554,14 @@ public class MapView extends Pane {
         int centerX = grid.getWidth() / 2;
         int centerY = grid.getHeight() / 2;
 
-        double centerHexX = centerX * hexSize * 1.5;
-        double centerHexY = centerY * hexSize * Math.sqrt(3);
-
-        if (centerX % 2 == 1) {
-            centerHexY += hexSize * Math.sqrt(3) / 2;
-        }
+        double centerHexX = layout.centerX(centerX);
+        double centerHexY = layout.centerY(centerX, centerY);
 
         translateX = getWidth() / 2 - centerHexX * scale;
         translateY = getHeight() / 2 - centerHexY * scale;
 
         scale = 1.0;
-        draw();
+        requestRedraw();
     }
 
     /**
@@ -485,15 +570,21 @@ public class MapView extends Pane {
     @Override
     public void resize(double width, double height) {
         super.resize(width, height);
-        draw();
+        requestRedraw();
     }
 
     public void dispose() {
         LOGGER.fine("Disposing MapView resources");
 
-        eventBus.unsubscribeAll(this);
+        subscriptions.dispose();
 
         grid = null;
+        terrainLayer.setGrid(null);
+        staleTiles.clear();
+        synchronized (renderLock) {
+            fullRedrawPending = false;
+            dirtyTiles.clear();
+        }
         selectedTile = null;
         hoveredTile = null;
         debugOverlay = null;
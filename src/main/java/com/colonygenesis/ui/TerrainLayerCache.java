@@ -0,0 +1,283 @@
+package com.colonygenesis.ui;
+
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.ui.styling.AppTheme;
+import com.colonygenesis.util.LoggerUtil;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the static map layer: terrain fills, fog of war and the default hex outlines.
+ * <p>
+ * World space is split into square chunks that are rendered once into {@link WritableImage}s
+ * and then drawn as images on every frame. Chunks are rendered at a zoom bucket, the smallest
+ * power of two at least as large as the view scale, and scaled down when drawn, so zooming
+ * within a bucket reuses the same images. Changing a tile invalidates only the chunks its
+ * hexagon and outline overlap; a terrain version change drops the whole cache. The least recently drawn
+ * chunks are evicted once the cache is full. The capacity is at least {@link #MIN_CHUNKS} and
+ * grows to the largest visible area seen plus a one-chunk border, so a frame never evicts
+ * chunks it still has to draw, even on a large screen zoomed far out.
+ * <p>
+ * Must be used on the JavaFX thread.
+ */
+public class TerrainLayerCache {
+    private static final Logger LOGGER = LoggerUtil.getLogger(TerrainLayerCache.class);
+
+    /** Width and height of a chunk image in pixels. */
+    private static final int CHUNK_PIXELS = 512;
+    /** Minimum number of cached chunks; one chunk image is about 1 MB. */
+    private static final int MIN_CHUNKS = 96;
+    private static final double[] ZOOM_BUCKETS = {0.5, 1.0, 2.0, 4.0};
+    /** Width of the hex outlines in world units; half of it lies outside the hexagon. */
+    private static final double OUTLINE_WIDTH = 1.0;
+
+    private static final Color FOG_FILL = Color.rgb(10, 10, 15, 0.9);
+    private static final Color FOG_STROKE = Color.rgb(30, 30, 40);
+    private static final Color OUTLINE_STROKE = Color.rgb(80, 80, 100);
+
+    private final HexLayout layout;
+    private final Canvas chunkCanvas = new Canvas(CHUNK_PIXELS, CHUNK_PIXELS);
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+
+    private final Map<ChunkKey, WritableImage> chunks = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ChunkKey, WritableImage> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private int capacity = MIN_CHUNKS;
+
+    private HexGrid grid;
+    private int terrainVersion;
+    private long chunksRendered;
+
+    /**
+     * Identifies a chunk by zoom bucket and position in the bucket's chunk grid.
+     */
+    private record ChunkKey(int bucket, int column, int row) {}
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param layout The hexagon layout of the map
+     */
+    public TerrainLayerCache(HexLayout layout) {
+        this.layout = layout;
+        snapshotParameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Sets the grid to render and drops every cached chunk.
+     *
+     * @param grid The grid, or null
+     */
+    public void setGrid(HexGrid grid) {
+        this.grid = grid;
+        clear();
+    }
+
+    /**
+     * Drops every cached chunk.
+     */
+    public void clear() {
+        chunks.clear();
+        if (grid != null) {
+            terrainVersion = grid.getTerrainVersion();
+        }
+    }
+
+    /**
+     * Drops the cached chunks overlapped by a tile's hexagon or its outline, in every zoom bucket.
+     *
+     * @param x The column of the tile
+     * @param y The row of the tile
+     */
+    public void invalidateTile(int x, int y) {
+        double size = layout.getSize();
+        double halfHeight = layout.getHexHeight() / 2;
+        double minX = layout.centerX(x) - size;
+        double maxX = layout.centerX(x) + size;
+        double minY = layout.centerY(x, y) - halfHeight;
+        double maxY = layout.centerY(x, y) + halfHeight;
+
+        for (int bucket = 0; bucket < ZOOM_BUCKETS.length; bucket++) {
+            double chunkSize = chunkWorldSize(bucket);
+            double padding = outlinePadding(bucket);
+            int firstColumn = (int) Math.floor((minX - padding) / chunkSize);
+            int lastColumn = (int) Math.floor((maxX + padding) / chunkSize);
+            int firstRow = (int) Math.floor((minY - padding) / chunkSize);
+            int lastRow = (int) Math.floor((maxY + padding) / chunkSize);
+
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                for (int row = firstRow; row <= lastRow; row++) {
+                    chunks.remove(new ChunkKey(bucket, column, row));
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the cached layer over a screen rectangle, rendering any missing chunks first.
+     * The graphics context must not be transformed; chunks are placed in screen space
+     * on whole pixels so neighboring chunks do not leave seams. Chunks reaching past the
+     * rectangle are drawn whole, so callers redrawing part of the view should clip to it.
+     *
+     * @param gc The graphics context of the view
+     * @param translateX The horizontal pan of the view, in pixels
+     * @param translateY The vertical pan of the view, in pixels
+     * @param scale The zoom of the view
+     * @param left The left edge of the rectangle, in pixels
+     * @param top The top edge of the rectangle, in pixels
+     * @param right The right edge of the rectangle, in pixels
+     * @param bottom The bottom edge of the rectangle, in pixels
+     */
+    public void draw(GraphicsContext gc, double translateX, double translateY, double scale,
+                     double left, double top, double right, double bottom) {
+        if (grid == null) return;
+
+        if (terrainVersion != grid.getTerrainVersion()) {
+            clear();
+        }
+
+        int bucket = bucketFor(scale);
+        double chunkSize = chunkWorldSize(bucket);
+        double padding = outlinePadding(bucket);
+
+        double minX = Math.max((left - translateX) / scale, -layout.getSize() - padding);
+        double minY = Math.max((top - translateY) / scale, -layout.getHexHeight() / 2 - padding);
+        double maxX = Math.min((right - translateX) / scale, layout.centerX(grid.getWidth() - 1) + layout.getSize() + padding);
+        double maxY = Math.min((bottom - translateY) / scale, (grid.getHeight() + 0.5) * layout.getHexHeight() + padding);
+
+        int firstColumn = (int) Math.floor(minX / chunkSize);
+        int lastColumn = (int) Math.floor(maxX / chunkSize);
+        int firstRow = (int) Math.floor(minY / chunkSize);
+        int lastRow = (int) Math.floor(maxY / chunkSize);
+
+        // Room for everything drawn now plus a border for panning
+        int needed = (lastColumn - firstColumn + 3) * (lastRow - firstRow + 3);
+        capacity = Math.max(capacity, needed);
+
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            double chunkLeft = Math.floor(translateX + column * chunkSize * scale);
+            double chunkRight = Math.floor(translateX + (column + 1) * chunkSize * scale);
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                double chunkTop = Math.floor(translateY + row * chunkSize * scale);
+                double chunkBottom = Math.floor(translateY + (row + 1) * chunkSize * scale);
+
+                WritableImage image = getChunk(bucket, column, row);
+                gc.drawImage(image, chunkLeft, chunkTop, chunkRight - chunkLeft, chunkBottom - chunkTop);
+            }
+        }
+    }
+
+    /**
+     * Draws one tile's terrain or fog and its default outline into a chunk.
+     */
+    private void drawTile(GraphicsContext gc, int x, int y) {
+        if (grid.isRevealed(x, y)) {
+            TerrainType terrainType = grid.getTerrainType(x, y);
+            gc.setFill(AppTheme.getTerrainColor(terrainType));
+            gc.setStroke(OUTLINE_STROKE);
+        } else {
+            gc.setFill(FOG_FILL);
+            gc.setStroke(FOG_STROKE);
+        }
+        gc.setLineWidth(OUTLINE_WIDTH);
+
+        layout.tracePath(gc, x, y);
+        gc.fill();
+        gc.stroke();
+    }
+
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Gets the number of chunks rendered since the cache was created.
+     *
+     * @return The number of chunk renders
+     */
+    public long getChunksRendered() {
+        return chunksRendered;
+    }
+
+    private WritableImage getChunk(int bucket, int column, int row) {
+        ChunkKey key = new ChunkKey(bucket, column, row);
+        WritableImage image = chunks.get(key);
+        if (image == null) {
+            image = renderChunk(bucket, column, row);
+            chunks.put(key, image);
+        }
+        return image;
+    }
+
+    private WritableImage renderChunk(int bucket, int column, int row) {
+        double zoom = ZOOM_BUCKETS[bucket];
+        double chunkSize = chunkWorldSize(bucket);
+        double minX = column * chunkSize;
+        double minY = row * chunkSize;
+        double padding = outlinePadding(bucket);
+
+        GraphicsContext gc = chunkCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, CHUNK_PIXELS, CHUNK_PIXELS);
+        gc.save();
+        gc.scale(zoom, zoom);
+        gc.translate(-minX, -minY);
+
+        // Include hexagons just outside the chunk whose outlines reach into it
+        int firstColumn = Math.max(0, layout.firstColumn(minX - padding));
+        int lastColumn = Math.min(grid.getWidth() - 1, layout.lastColumn(minX + chunkSize + padding));
+        int firstRow = Math.max(0, layout.firstRow(minY - padding));
+        int lastRow = Math.min(grid.getHeight() - 1, layout.lastRow(minY + chunkSize + padding));
+
+        for (int y = firstRow; y <= lastRow; y++) {
+            for (int x = firstColumn; x <= lastColumn; x++) {
+                drawTile(gc, x, y);
+            }
+        }
+
+        gc.restore();
+
+        chunksRendered++;
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.finest("Rendered terrain chunk " + column + "," + row + " at zoom " + zoom);
+        }
+        return chunkCanvas.snapshot(snapshotParameters, new WritableImage(CHUNK_PIXELS, CHUNK_PIXELS));
+    }
+
+    private static double chunkWorldSize(int bucket) {
+        return CHUNK_PIXELS / ZOOM_BUCKETS[bucket];
+    }
+
+    /**
+     * Gets how far a hexagon's drawing can reach past its bounds, in world units:
+     * half the outline width plus one pixel at the bucket's zoom.
+     */
+    private static double outlinePadding(int bucket) {
+        return OUTLINE_WIDTH / 2 + 1 / ZOOM_BUCKETS[bucket];
+    }
+
+    /**
+     * Picks the smallest zoom bucket at least as large as the scale, so chunks are only ever scaled down.
+     */
+    private static int bucketFor(double scale) {
+        for (int bucket = 0; bucket < ZOOM_BUCKETS.length - 1; bucket++) {
+            if (scale <= ZOOM_BUCKETS[bucket]) {
+                return bucket;
+            }
+        }
+        return ZOOM_BUCKETS.length - 1;
+    }
+}
@@ -3,7 +3,6 @@ package com.colonygenesis.ui.components;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.resource.AlienCompoundConverter;
 import com.colonygenesis.resource.ResourceType;
-import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.ui.events.NotificationEvents;
 import com.colonygenesis.ui.styling.AppTheme;
 import com.colonygenesis.util.Result;
@@ -137,7 +136,7 @@ public class AlienCompoundPanel extends GamePanel {
             Result<Integer> result = converter.convert(amount, targetResource);
 
             if (result.isFailure()) {
-                EventBus.getInstance().publish(NotificationEvents.Factory.error(
+                game.getEventBus().publish(NotificationEvents.Factory.error(
                         "Conversion Failed",
                         result.getErrorMessage()
                 ));
@@ -151,7 +150,7 @@ public class AlienCompoundPanel extends GamePanel {
         Result<Integer> result = converter.boostResearch(amount);
 
         if (result.isFailure()) {
-            EventBus.getInstance().publish(NotificationEvents.Factory.error(
+            game.getEventBus().publish(NotificationEvents.Factory.error(
                     "Research Boost Failed",
                     result.getErrorMessage()
             ));
@@ -7,6 +7,7 @@ import com.colonygenesis.map.Tile;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.ui.ScreenManager;
 import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.events.GameEvent;
 import com.colonygenesis.ui.events.TileEvents;
 import com.colonygenesis.ui.styling.AppTheme;
@@ -42,7 +43,8 @@ public class BuildingSelectionOverlay extends StackPane {
     private final Button buildButton;
 
     private AbstractBuilding selectedBuilding;
-    private final EventBus eventBus = EventBus.getInstance();
+    private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
 
     /**
      * Creates a new building selection overlay.
@@ -51,6 +53,8 @@ public class BuildingSelectionOverlay extends StackPane {
      */
     public BuildingSelectionOverlay(Tile tile) {
         this.game = ScreenManager.getInstance().getGame();
+        this.eventBus = game.getEventBus();
+        this.subscriptions = new SubscriptionGroup(eventBus);
         this.tile = tile;
 
         setStyle("-fx-background-color: rgba(0, 0, 0, 0.7);");
@@ -118,7 +122,7 @@ public class BuildingSelectionOverlay extends StackPane {
      * Initialize subscriptions to relevant events.
      */
     private void initializeEventSubscriptions() {
-        eventBus.subscribe(BuildingSelectedEvent.class, this::handleBuildingSelected);
+        subscriptions.subscribe(BuildingSelectedEvent.class, this::handleBuildingSelected);
     }
 
     /**
@@ -152,6 +156,8 @@ public class BuildingSelectionOverlay extends StackPane {
      * Closes the overlay.
      */
     public void close() {
+        subscriptions.dispose();
+
         FadeTransition fadeOut = new FadeTransition(Duration.millis(200), contentContainer);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
@@ -1,6 +1,7 @@
 package com.colonygenesis.ui.components;
 
 import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.events.NotificationEvents;
 import com.colonygenesis.util.LoggerUtil;
 import javafx.animation.FadeTransition;
@@ -33,12 +34,15 @@ public class NotificationManager extends VBox {
     private final Queue<NotificationToast> activeNotifications = new LinkedList<>();
     private final Queue<NotificationEvents.GameNotificationEvent> pendingNotifications = new ConcurrentLinkedQueue<>();
     private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
     private boolean processingNotifications = false;
 
     /**
      * Creates a new notification manager.
+     *
+     * @param eventBus The event bus to receive notifications from
      */
-    public NotificationManager() {
+    public NotificationManager(EventBus eventBus) {
         setSpacing(10);
         setPadding(new Insets(10));
         setAlignment(Pos.BOTTOM_RIGHT);
@@ -47,7 +51,8 @@ public class NotificationManager extends VBox {
 
         this.setPickOnBounds(false);
 
-        eventBus = EventBus.getInstance();
+        this.eventBus = eventBus;
+        this.subscriptions = new SubscriptionGroup(eventBus);
 
         initializeEventSubscriptions();
 
@@ -58,9 +63,9 @@ public class NotificationManager extends VBox {
      * Initializes subscriptions to notification events.
      */
     private void initializeEventSubscriptions() {
-        eventBus.subscribe(NotificationEvents.GameNotificationEvent.class, this::handleGameNotification);
-        eventBus.subscribe(NotificationEvents.ResourceNotificationEvent.class, this::handleResourceNotification);
-        eventBus.subscribe(NotificationEvents.BuildingNotificationEvent.class, this::handleBuildingNotification);
+        subscriptions.subscribe(NotificationEvents.GameNotificationEvent.class, this::handleGameNotification);
+        subscriptions.subscribe(NotificationEvents.ResourceNotificationEvent.class, this::handleResourceNotification);
+        subscriptions.subscribe(NotificationEvents.BuildingNotificationEvent.class, this::handleBuildingNotification);
     }
 
     /**
@@ -257,7 +262,7 @@ public class NotificationManager extends VBox {
     public void dispose() {
         LOGGER.fine("Disposing NotificationManager resources");
 
-        eventBus.unsubscribeAll(this);
+        subscriptions.dispose();
 
         activeNotifications.clear();
         pendingNotifications.clear();
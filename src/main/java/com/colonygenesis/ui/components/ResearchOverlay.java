@@ -3,7 +3,7 @@ package com.colonygenesis.ui.components;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.technology.*;
 import com.colonygenesis.ui.ScreenManager;
-import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.styling.AppTheme;
 import javafx.animation.FadeTransition;
 import javafx.animation.TranslateTransition;
@@ -34,6 +34,7 @@ public class ResearchOverlay extends StackPane {
     private final ResearchTreeView treeView;
     private final TechDetailsPanel detailsPanel;
     private final VBox contentContainer;
+    private final SubscriptionGroup subscriptions;
 
     public ResearchOverlay(Game game) {
         this.game = game;
@@ -74,12 +75,13 @@ public class ResearchOverlay extends StackPane {
         contentContainer.getChildren().addAll(titleLabel, mainContent, closeButton);
         getChildren().add(contentContainer);
 
-        // Subscribe to events
-        EventBus.getInstance().subscribe(ResearchTreeView.TechSelectedEvent.class, event -> {
+        // Subscribe to events; released again when the overlay closes
+        subscriptions = new SubscriptionGroup(game.getEventBus());
+        subscriptions.subscribe(ResearchTreeView.TechSelectedEvent.class, event -> {
             detailsPanel.setTechnology(event.getTechnology());
         });
 
-        EventBus.getInstance().subscribe(TechEvents.TechnologyResearchedEvent.class, event -> {
+        subscriptions.subscribe(TechEvents.TechnologyResearchedEvent.class, event -> {
             treeView.refresh();
             if (detailsPanel.getCurrentTechnology() != null &&
                     detailsPanel.getCurrentTechnology().getId().equals(event.getTechnology().getId())) {
@@ -105,6 +107,8 @@ public class ResearchOverlay extends StackPane {
     }
 
     public void close() {
+        subscriptions.dispose();
+
         FadeTransition fadeOut = new FadeTransition(Duration.millis(200), contentContainer);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
@@ -4,7 +4,7 @@ import com.colonygenesis.technology.TechBranch;
 import com.colonygenesis.technology.TechManager;
 import com.colonygenesis.technology.Technology;
 import com.colonygenesis.technology.TechnologyTree;
-import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.styling.AppTheme;
 import javafx.geometry.VPos;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -179,7 +179,7 @@ public class ResearchTreeView extends Pane {
         for (TechNode node : nodes.values()) {
             if (node.contains(mouseX, mouseY)) {
                 selectNode(node);
-                EventBus.getInstance().publish(new TechSelectedEvent(node.getTechnology()));
+                techManager.getGame().getEventBus().publish(new TechSelectedEvent(node.getTechnology()));
                 break;
             }
         }
@@ -273,7 +273,7 @@ public class ResearchTreeView extends Pane {
             gc.fillOval(x - NODE_RADIUS, y - NODE_RADIUS, NODE_RADIUS * 2, NODE_RADIUS * 2);
 
             // Draw branch color outline
-            gc.setStroke(tech.getBranch().getColor());
+            gc.setStroke(AppTheme.getBranchColor(tech.getBranch()));
             gc.setLineWidth(3);
             gc.strokeOval(x - NODE_RADIUS, y - NODE_RADIUS, NODE_RADIUS * 2, NODE_RADIUS * 2);
 
@@ -1,10 +1,12 @@
 package com.colonygenesis.ui.components;
 
+import com.colonygenesis.resource.ResourceSnapshot;
 import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.ui.FxEventDispatcher;
 import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.events.ResourceEvents;
 import com.colonygenesis.ui.styling.AppTheme;
-import javafx.application.Platform;
 import javafx.scene.layout.HBox;
 
 import java.util.EnumMap;
@@ -13,18 +15,45 @@ import java.util.Map;
 /**
  * Component for displaying resources in the game UI.
  * Uses the ResourceDisplay component for individual resources.
+ * <p>
+ * Resource events only record the newest values; each resource display and the
+ * worker info are refreshed at most once per frame through the {@link FxEventDispatcher}.
  */
 public class ResourceBar extends HBox {
+    private static final String WORKERS_KEY = "workers";
+
     private final Map<ResourceType, ResourceDisplay> resourceDisplays = new EnumMap<>(ResourceType.class);
     private final ResourceDisplay populationDisplay;
     private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
+    private final FxEventDispatcher dispatcher;
+
+    private final Map<ResourceType, PendingValues> pendingValues = new EnumMap<>(ResourceType.class);
+    private PendingWorkers pendingWorkers;
+
+    /**
+     * Values received for a resource that have not been shown yet.
+     * A null capacity or production keeps the value currently shown.
+     */
+    private record PendingValues(int amount, Integer capacity, Integer production) {}
+
+    /**
+     * Worker counts that have not been shown yet.
+     * A null assigned count is derived from the population shown.
+     */
+    private record PendingWorkers(int available, Integer assigned) {}
 
     /**
      * Creates a new resource bar.
+     *
+     * @param eventBus The event bus of the displayed game
+     * @param dispatcher The dispatcher that delivers updates once per frame
      */
-    public ResourceBar() {
+    public ResourceBar(EventBus eventBus, FxEventDispatcher dispatcher) {
         getStyleClass().add(AppTheme.STYLE_RESOURCE_BAR);
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = eventBus;
+        this.subscriptions = new SubscriptionGroup(eventBus);
+        this.dispatcher = dispatcher;
 
         initializeResourceIndicators();
 
@@ -55,91 +84,143 @@ public class ResourceBar extends HBox {
      * Subscribes to relevant events for reactive updates.
      */
     private void subscribeToEvents() {
-        eventBus.subscribe(ResourceEvents.ResourcesUpdatedEvent.class, this::handleResourcesUpdated);
-        eventBus.subscribe(ResourceEvents.ResourceChangedEvent.class, this::handleResourceChanged);
+        subscriptions.subscribe(ResourceEvents.ResourcesUpdatedEvent.class, this::handleResourcesUpdated);
+        subscriptions.subscribe(ResourceEvents.ResourceChangedEvent.class, this::handleResourceChanged);
+        subscriptions.subscribe(ResourceEvents.ResourceDeltaEvent.class, this::handleResourceDelta);
 
-        eventBus.subscribe(ResourceEvents.PopulationChangedEvent.class, this::handlePopulationChanged);
-        eventBus.subscribe(ResourceEvents.WorkerAvailabilityChangedEvent.class, this::handleWorkerAvailabilityChanged);
+        subscriptions.subscribe(ResourceEvents.PopulationChangedEvent.class, this::handlePopulationChanged);
+        subscriptions.subscribe(ResourceEvents.WorkerAvailabilityChangedEvent.class, this::handleWorkerAvailabilityChanged);
     }
 
     /**
      * Handles updates to multiple resources at once.
      */
     private void handleResourcesUpdated(ResourceEvents.ResourcesUpdatedEvent event) {
-        Platform.runLater(() -> {
-            update(event.getResources(), event.getProduction(), event.getCapacity());
-
-            if (populationDisplay != null) {
-                populationDisplay.updateWorkerInfo(
-                        event.getAvailableWorkers(),
-                        event.getAssignedWorkers()
-                );
-            }
-        });
+        ResourceSnapshot snapshot = event.getSnapshot();
+
+        for (ResourceType type : ResourceType.values()) {
+            postValues(type, snapshot.getAmount(type), snapshot.getCapacity(type), snapshot.getNetProduction(type));
+        }
+        postWorkers(event.getAvailableWorkers(), event.getAssignedWorkers());
     }
 
     /**
      * Handles updates to a single resource.
      */
     private void handleResourceChanged(ResourceEvents.ResourceChangedEvent event) {
-        Platform.runLater(() -> {
-            ResourceType type = event.getResourceType();
-            ResourceDisplay display = resourceDisplays.get(type);
+        postValues(event.getResourceType(), event.getNewAmount(), null, null);
+    }
 
-            if (display != null) {
-                update(type, event.getNewAmount(), display.getCapacity(), display.getProduction());
+    /**
+     * Handles the combined changes of a batch, refreshing only the resources that changed.
+     */
+    private void handleResourceDelta(ResourceEvents.ResourceDeltaEvent event) {
+        ResourceSnapshot snapshot = event.getCurrent();
+
+        for (ResourceType type : ResourceType.values()) {
+            if (event.isChanged(type)) {
+                postValues(type, snapshot.getAmount(type), snapshot.getCapacity(type), snapshot.getNetProduction(type));
             }
-        });
+        }
+        postWorkers(snapshot.getAvailableWorkers(), snapshot.getAssignedWorkers());
     }
 
     /**
      * Handles changes to the colony population.
      */
     private void handlePopulationChanged(ResourceEvents.PopulationChangedEvent event) {
-        Platform.runLater(() -> {
-            if (populationDisplay != null) {
-                populationDisplay.update(
-                        event.getTotalPopulation(),
-                        event.getHousingCapacity(),
-                        0 // Production is handled separately
-                );
-            }
-        });
+        // Production is handled separately
+        postValues(ResourceType.POPULATION, event.getTotalPopulation(), event.getHousingCapacity(), 0);
     }
 
     /**
      * Handles changes to worker availability.
      */
     private void handleWorkerAvailabilityChanged(ResourceEvents.WorkerAvailabilityChangedEvent event) {
-        Platform.runLater(() -> {
-            if (populationDisplay != null) {
-                populationDisplay.updateWorkerInfo(
-                        event.getAvailableWorkers(),
-                        populationDisplay.getAmount() - event.getAvailableWorkers()
-                );
+        postWorkers(event.getAvailableWorkers(), null);
+    }
+
+    /**
+     * Records the latest values of a resource and schedules its display to be refreshed.
+     * Values received for the same resource before the next frame are merged, so only
+     * the newest ones are shown.
+     *
+     * @param type The resource type
+     * @param amount The current amount
+     * @param capacity The storage capacity, or null to keep the previous value
+     * @param production The production rate, or null to keep the previous value
+     */
+    private void postValues(ResourceType type, int amount, Integer capacity, Integer production) {
+        synchronized (pendingValues) {
+            PendingValues previous = pendingValues.get(type);
+            if (previous != null) {
+                if (capacity == null) capacity = previous.capacity();
+                if (production == null) production = previous.production();
             }
-        });
+            pendingValues.put(type, new PendingValues(amount, capacity, production));
+        }
+        dispatcher.post(this, type, () -> applyValues(type));
+    }
+
+    /**
+     * Records the latest worker counts and schedules the population display to be refreshed.
+     *
+     * @param availableWorkers The number of available workers
+     * @param assignedWorkers The number of assigned workers, or null to derive it from the population
+     */
+    private void postWorkers(int availableWorkers, Integer assignedWorkers) {
+        synchronized (pendingValues) {
+            pendingWorkers = new PendingWorkers(availableWorkers, assignedWorkers);
+        }
+        dispatcher.post(this, WORKERS_KEY, this::applyWorkers);
+    }
+
+    /**
+     * Shows the latest values received for a resource.
+     */
+    private void applyValues(ResourceType type) {
+        PendingValues values;
+        synchronized (pendingValues) {
+            values = pendingValues.remove(type);
+        }
+
+        ResourceDisplay display = resourceDisplays.get(type);
+        if (values == null || display == null) return;
+
+        update(type, values.amount(),
+                values.capacity() != null ? values.capacity() : display.getCapacity(),
+                values.production() != null ? values.production() : display.getProduction());
+    }
+
+    /**
+     * Shows the latest worker counts received.
+     */
+    private void applyWorkers() {
+        PendingWorkers workers;
+        synchronized (pendingValues) {
+            workers = pendingWorkers;
+            pendingWorkers = null;
+        }
+
+        if (workers == null || populationDisplay == null) return;
+
+        int assignedWorkers = workers.assigned() != null
+                ? workers.assigned()
+                : populationDisplay.getAmount() - workers.available();
+        populationDisplay.updateWorkerInfo(workers.available(), assignedWorkers);
     }
 
     /**
      * Updates the resource display with the current game state.
      *
-     * @param resources The current resource amounts
-     * @param production The production rates
-     * @param capacities The storage capacities
+     * @param snapshot The current resource values
      */
-    public void update(Map<ResourceType, Integer> resources,
-                       Map<ResourceType, Integer> production,
-                       Map<ResourceType, Integer> capacities) {
+    public void update(ResourceSnapshot snapshot) {
         for (ResourceType type : ResourceType.values()) {
             ResourceDisplay display = resourceDisplays.get(type);
             if (display == null) continue;
 
-            int amount = resources.getOrDefault(type, 0);
-            int net = production.getOrDefault(type, 0);
-            int capacity = capacities.getOrDefault(type, 0);
-
-            display.update(amount, capacity, net);
+            display.update(snapshot.getAmount(type), snapshot.getCapacity(type), snapshot.getNetProduction(type));
         }
     }
 
@@ -162,7 +243,7 @@ public class ResourceBar extends HBox {
      * Cleans up resources when the component is no longer needed.
      */
     public void dispose() {
-        eventBus.unsubscribeAll(this);
+        subscriptions.dispose();
         resourceDisplays.clear();
     }
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ public class ResourceDisplay extends HBox {
 
         // Create resource icon
         Circle resourceIcon = new Circle(8);
-        resourceIcon.setFill(resourceType.getColor());
+        resourceIcon.setFill(AppTheme.getResourceColor(resourceType));
         resourceIcon.getStyleClass().add(AppTheme.STYLE_RESOURCE_ICON);
 
         if (resourceType.isPopulation()) {
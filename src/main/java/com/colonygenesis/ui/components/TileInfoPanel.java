@@ -6,11 +6,11 @@ import com.colonygenesis.building.ProductionBuilding;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.ui.FxEventDispatcher;
 import com.colonygenesis.ui.ScreenManager;
 import com.colonygenesis.ui.events.*;
 import com.colonygenesis.ui.styling.AppTheme;
 import com.colonygenesis.util.LoggerUtil;
-import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -30,8 +30,14 @@ import java.util.logging.Logger;
 public class TileInfoPanel extends GamePanel {
     private static final Logger LOGGER = LoggerUtil.getLogger(TileInfoPanel.class);
 
+    private static final String SELECTION_KEY = "selection";
+    private static final String REFRESH_KEY = "refresh";
+    private static final String BUILDING_KEY = "building";
+
     private final Game game;
     private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
+    private final FxEventDispatcher dispatcher;
 
     private final VBox contentBox;
 
@@ -51,17 +57,22 @@ public class TileInfoPanel extends GamePanel {
     private Button assignWorkersButton;
     private Label buildingInfoLabel;
 
-    private Tile selectedTile;
+    private volatile Tile selectedTile;
     private Map<ResourceType, Integer> colonizationCost;
 
     /**
      * Constructs a new tile info panel.
+     *
+     * @param game The game whose tiles are shown
+     * @param dispatcher The dispatcher that delivers updates once per frame
      */
-    public TileInfoPanel(Game game) {
+    public TileInfoPanel(Game game, FxEventDispatcher dispatcher) {
         super("Tile Information");
 
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = game.getEventBus();
+        this.subscriptions = new SubscriptionGroup(eventBus);
+        this.dispatcher = dispatcher;
 
         setStyle("-fx-background-color: rgba(28, 35, 64, 0.95);");
 
@@ -128,101 +139,100 @@ public class TileInfoPanel extends GamePanel {
      * Subscribes to events for reactive updates.
      */
     private void initializeEventSubscriptions() {
-        eventBus.subscribe(TileEvents.TileSelectedEvent.class, this::handleTileSelected);
+        subscriptions.subscribe(TileEvents.TileSelectedEvent.class, this::handleTileSelected);
 
-        eventBus.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
+        subscriptions.subscribe(TileEvents.TileUpdatedEvent.class, this::handleTileUpdated);
 
-        eventBus.subscribe(BuildingEvents.BuildingCompletedEvent.class, this::handleBuildingCompleted);
-        eventBus.subscribe(BuildingEvents.BuildingActivatedEvent.class, this::handleBuildingActivated);
-        eventBus.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, this::handleBuildingDeactivated);
-        eventBus.subscribe(BuildingEvents.WorkersAssignedEvent.class, this::handleWorkersAssigned);
-        eventBus.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, this::handleConstructionProgress);
-        eventBus.subscribe(ColonyEvents.BuildingOccupancyChangedEvent.class, this::handleBuildingOccupancyChanged);
+        subscriptions.subscribe(BuildingEvents.BuildingCompletedEvent.class, this::handleBuildingCompleted);
+        subscriptions.subscribe(BuildingEvents.BuildingActivatedEvent.class, this::handleBuildingActivated);
+        subscriptions.subscribe(BuildingEvents.BuildingDeactivatedEvent.class, this::handleBuildingDeactivated);
+        subscriptions.subscribe(BuildingEvents.WorkersAssignedEvent.class, this::handleWorkersAssigned);
+        subscriptions.subscribe(BuildingEvents.BuildingConstructionProgressEvent.class, this::handleConstructionProgress);
+        subscriptions.subscribe(ColonyEvents.BuildingOccupancyChangedEvent.class, this::handleBuildingOccupancyChanged);
     }
 
     /**
      * Handles the tile selection event.
      */
     private void handleTileSelected(TileEvents.TileSelectedEvent event) {
-        Platform.runLater(() -> setTile(event.getTile()));
+        dispatcher.post(this, SELECTION_KEY, () -> setTile(event.getTile()));
     }
 
     /**
      * Handles the tile update event.
      */
     private void handleTileUpdated(TileEvents.TileUpdatedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getTile())) {
-                setTile(event.getTile());
-            }
-        });
+        if (isSelected(event.getTile())) {
+            dispatcher.post(this, REFRESH_KEY, () -> {
+                if (isSelected(event.getTile())) {
+                    setTile(event.getTile());
+                }
+            });
+        }
     }
 
     /**
      * Handles the building completed event.
      */
     private void handleBuildingCompleted(BuildingEvents.BuildingCompletedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getTile())) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getTile());
     }
 
     /**
      * Handles the building activated event.
      */
     private void handleBuildingActivated(BuildingEvents.BuildingActivatedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getTile())) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getTile());
     }
 
     /**
      * Handles the building deactivated event.
      */
     private void handleBuildingDeactivated(BuildingEvents.BuildingDeactivatedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getTile())) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getTile());
     }
 
     /**
      * Handles the workers assigned event.
      */
     private void handleWorkersAssigned(BuildingEvents.WorkersAssignedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getBuilding().getLocation())) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getBuilding().getLocation());
     }
 
     /**
      * Handles the construction progress event.
      */
     private void handleConstructionProgress(BuildingEvents.BuildingConstructionProgressEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.equals(event.getBuilding().getLocation())) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getBuilding().getLocation());
     }
 
     /**
      * Handles the building occupancy changed event.
      */
     private void handleBuildingOccupancyChanged(ColonyEvents.BuildingOccupancyChangedEvent event) {
-        Platform.runLater(() -> {
-            if (selectedTile != null && selectedTile.hasBuilding() &&
-                    selectedTile.getBuilding() == event.getBuilding()) {
-                updateBuildingInfo();
-            }
-        });
+        postBuildingUpdate(event.getBuilding().getLocation());
+    }
+
+    /**
+     * Schedules a refresh of the building information if the tile is the selected one.
+     * The check happens before posting: updates share one dispatcher key, so an update
+     * posted for any other tile would otherwise replace the selected tile's refresh.
+     *
+     * @param tile The tile whose building changed
+     */
+    private void postBuildingUpdate(Tile tile) {
+        if (isSelected(tile)) {
+            dispatcher.post(this, BUILDING_KEY, () -> {
+                if (isSelected(tile)) {
+                    updateBuildingInfo();
+                }
+            });
+        }
+    }
+
+    private boolean isSelected(Tile tile) {
+        Tile selected = selectedTile;
+        return selected != null && selected.equals(tile);
     }
 
     /**
@@ -510,7 +520,7 @@ public class TileInfoPanel extends GamePanel {
     public void dispose() {
         LOGGER.fine("Disposing TileInfoPanel resources");
 
-        eventBus.unsubscribeAll(this);
+        subscriptions.dispose();
 
         selectedTile = null;
         colonizationCost = null;
@@ -1,9 +1,11 @@
 package com.colonygenesis.ui.debug;
 
 import com.colonygenesis.core.Game;
+import com.colonygenesis.ui.FxEventDispatcher;
 import com.colonygenesis.ui.events.BuildingEvents;
 import com.colonygenesis.ui.events.ColonyEvents;
 import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
 import com.colonygenesis.ui.events.TurnEvents;
 import com.colonygenesis.util.LoggerUtil;
 import javafx.animation.Animation;
@@ -39,10 +41,16 @@ public class DebugOverlay extends VBox {
     private static final DecimalFormat df = new DecimalFormat("#.##");
     private static final DecimalFormat memoryFormat = new DecimalFormat("#,###");
 
+    private static final String GAME_STATE_KEY = "gameState";
+    private static final String BUILDINGS_KEY = "buildings";
+    private static final String RENDER_KEY = "render";
+
     private final Game game;
     private final Map<DebugSection, VBox> sections = new HashMap<>();
     private final Timeline updateTimeline;
     private final EventBus eventBus;
+    private final SubscriptionGroup subscriptions;
+    private final FxEventDispatcher dispatcher;
 
     // FPS tracking
     private long lastFrameTime = System.nanoTime();
@@ -70,10 +78,13 @@ public class DebugOverlay extends VBox {
      * Creates a new debug overlay for the specified game.
      *
      * @param game The game to monitor
+     * @param dispatcher The dispatcher that delivers updates once per frame
      */
-    public DebugOverlay(Game game) {
+    public DebugOverlay(Game game, FxEventDispatcher dispatcher) {
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = game.getEventBus();
+        this.subscriptions = new SubscriptionGroup(eventBus);
+        this.dispatcher = dispatcher;
 
         getStyleClass().add("debug-overlay");
         setStyle("-fx-background-color: rgba(0, 0, 0, 0.7); -fx-background-radius: 5;");
@@ -101,18 +112,18 @@ public class DebugOverlay extends VBox {
      * Initialize subscriptions to relevant events.
      */
     private void initializeEventSubscriptions() {
-        eventBus.subscribe(TurnEvents.TurnAdvancedEvent.class, event ->
-                Platform.runLater(this::updateGameStateMetrics));
-        eventBus.subscribe(TurnEvents.PhaseChangedEvent.class, event ->
-                Platform.runLater(this::updateGameStateMetrics));
-
-        eventBus.subscribe(BuildingEvents.BuildingPlacedEvent.class, event ->
-                Platform.runLater(this::updateBuildingMetrics));
-        eventBus.subscribe(BuildingEvents.BuildingCompletedEvent.class, event ->
-                Platform.runLater(this::updateBuildingMetrics));
-
-        eventBus.subscribe(ColonyEvents.PopulationChangedEvent.class, event ->
-                Platform.runLater(this::updateGameStateMetrics));
+        subscriptions.subscribe(TurnEvents.TurnAdvancedEvent.class, event ->
+                dispatcher.post(this, GAME_STATE_KEY, this::updateGameStateMetrics));
+        subscriptions.subscribe(TurnEvents.PhaseChangedEvent.class, event ->
+                dispatcher.post(this, GAME_STATE_KEY, this::updateGameStateMetrics));
+
+        subscriptions.subscribe(BuildingEvents.BuildingPlacedEvent.class, event ->
+                dispatcher.post(this, BUILDINGS_KEY, this::updateBuildingMetrics));
+        subscriptions.subscribe(BuildingEvents.BuildingCompletedEvent.class, event ->
+                dispatcher.post(this, BUILDINGS_KEY, this::updateBuildingMetrics));
+
+        subscriptions.subscribe(ColonyEvents.PopulationChangedEvent.class, event ->
+                dispatcher.post(this, GAME_STATE_KEY, this::updateGameStateMetrics));
     }
 
     /**
@@ -284,10 +295,8 @@ public class DebugOverlay extends VBox {
             String phase = game.getTurnManager().getCurrentPhase().getName();
             int entityCount = game.getBuildingManager().getBuildingCount();
 
-            Platform.runLater(() -> {
-                gameStateLabel.setText("Turn: " + turn + ", Phase: " + phase);
-                entityCountLabel.setText("Buildings: " + entityCount);
-            });
+            gameStateLabel.setText("Turn: " + turn + ", Phase: " + phase);
+            entityCountLabel.setText("Buildings: " + entityCount);
         }
     }
 
@@ -300,9 +309,9 @@ public class DebugOverlay extends VBox {
             int constructionCount = game.getBuildingManager().getBuildingsUnderConstructionCount();
             int activeCount = game.getBuildingManager().getActiveBuildings();
 
-            Platform.runLater(() -> entityCountLabel.setText("Buildings: " + buildingCount +
+            entityCountLabel.setText("Buildings: " + buildingCount +
                     " (Active: " + activeCount +
-                    ", Building: " + constructionCount + ")"));
+                    ", Building: " + constructionCount + ")");
         }
     }
 
@@ -314,7 +323,7 @@ public class DebugOverlay extends VBox {
      * @param renderTimeMs Render time in milliseconds
      */
     public void setRenderStats(int visibleHexes, int totalHexes, double renderTimeMs) {
-        Platform.runLater(() -> {
+        dispatcher.post(this, RENDER_KEY, () -> {
             renderTimeLabel.setText("Render Time: " + df.format(renderTimeMs) + " ms");
 
             if (totalHexes > 0) {
@@ -395,6 +404,7 @@ public class DebugOverlay extends VBox {
      */
     public void dispose() {
         updateTimeline.stop();
+        subscriptions.dispose();
         LOGGER.fine("Debug overlay disposed");
     }
 
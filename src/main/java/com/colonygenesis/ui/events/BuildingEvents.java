@@ -51,6 +51,48 @@ public class BuildingEvents {
         }
     }
 
+    /**
+     * Event fired when a building is demolished.
+     */
+    public static class BuildingDemolishedEvent implements GameEvent {
+        private final AbstractBuilding building;
+        private final Tile tile;
+
+        /**
+         * Creates a new building demolished event.
+         *
+         * @param building The building that was demolished
+         * @param tile     The tile the building stood on
+         */
+        public BuildingDemolishedEvent(AbstractBuilding building, Tile tile) {
+            this.building = building;
+            this.tile = tile;
+        }
+
+        /**
+         * Gets the building.
+         *
+         * @return The building
+         */
+        public AbstractBuilding getBuilding() {
+            return building;
+        }
+
+        /**
+         * Gets the tile.
+         *
+         * @return The tile
+         */
+        public Tile getTile() {
+            return tile;
+        }
+
+        @Override
+        public String getName() {
+            return "BuildingDemolished";
+        }
+    }
+
     /**
      * Event fired when building construction advances.
      */
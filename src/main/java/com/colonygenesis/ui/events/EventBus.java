@@ -2,39 +2,46 @@ package com.colonygenesis.ui.events;
 
 import com.colonygenesis.util.LoggerUtil;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Central event bus for publishing and subscribing to events.
- * Implements the singleton pattern for global access.
+ * Event bus for publishing and subscribing to events.
+ * Each game owns its own bus, so events never leak between games
+ * running in the same process.
+ * <p>
+ * Subscriptions are kept in an array per event class. Subscribing replaces the
+ * array with a longer copy, so publishing is a single map lookup followed by a
+ * plain array loop, with no locking or allocation, and is safe while other
+ * threads change the subscriptions. Unsubscribing only marks the subscription
+ * inactive; the array is compacted once inactive entries outnumber active ones,
+ * which keeps unsubscribing O(1) amortized and publish cost proportional to the
+ * live handlers.
  */
 public class EventBus {
     private static final Logger LOGGER = LoggerUtil.getLogger(EventBus.class);
-    private static EventBus instance;
 
-    private final Map<Class<? extends GameEvent>, List<EventHandler<? extends GameEvent>>> subscribers;
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    private final Map<Class<? extends GameEvent>, HandlerTable> subscribers;
 
     /**
-     * Private constructor to prevent instantiation.
+     * Subscriptions for one event class.
+     * Writers synchronize on the table; readers only read the volatile array.
      */
-    private EventBus() {
-        subscribers = new ConcurrentHashMap<>();
+    private static final class HandlerTable {
+        private volatile Subscription[] subscriptions = NO_SUBSCRIPTIONS;
+        private int inactive;
     }
 
     /**
-     * Gets the singleton instance of the EventBus.
-     *
-     * @return The EventBus instance
+     * Constructs a new event bus with no subscribers.
      */
-    public static synchronized EventBus getInstance() {
-        if (instance == null) {
-            instance = new EventBus();
-        }
-        return instance;
+    public EventBus() {
+        subscribers = new ConcurrentHashMap<>();
     }
 
     /**
@@ -43,16 +50,27 @@ public class EventBus {
      * @param <T> The event type
      * @param eventType The class of the event to subscribe to
      * @param handler The handler to invoke when the event occurs
+     * @return A handle that removes the subscription again
      */
-    public <T extends GameEvent> void subscribe(Class<T> eventType, EventHandler<T> handler) {
+    public <T extends GameEvent> Subscription subscribe(Class<T> eventType, EventHandler<T> handler) {
         LOGGER.fine("Subscribing to event: " + eventType.getSimpleName());
 
-        subscribers.computeIfAbsent(eventType, k -> new ArrayList<>())
-                .add(handler);
+        Subscription subscription = new Subscription(this, eventType, handler);
+        HandlerTable table = subscribers.computeIfAbsent(eventType, type -> new HandlerTable());
+
+        synchronized (table) {
+            Subscription[] current = table.subscriptions;
+            Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = subscription;
+            table.subscriptions = updated;
+        }
+
+        return subscription;
     }
 
     /**
      * Unregisters a subscriber for a specific event type.
+     * Prefer {@link Subscription#unsubscribe()}, which does not need to search for the handler.
      *
      * @param <T> The event type
      * @param eventType The class of the event to unsubscribe from
@@ -61,11 +79,15 @@ public class EventBus {
     public <T extends GameEvent> void unsubscribe(Class<T> eventType, EventHandler<T> handler) {
         LOGGER.fine("Unsubscribing from event: " + eventType.getSimpleName());
 
-        if (subscribers.containsKey(eventType)) {
-            subscribers.get(eventType).remove(handler);
+        HandlerTable table = subscribers.get(eventType);
+        if (table == null) {
+            return;
+        }
 
-            if (subscribers.get(eventType).isEmpty()) {
-                subscribers.remove(eventType);
+        for (Subscription subscription : table.subscriptions) {
+            if (subscription.isActive() && subscription.getHandler().equals(handler)) {
+                release(subscription);
+                return;
             }
         }
     }
@@ -78,15 +100,24 @@ public class EventBus {
      */
     @SuppressWarnings("unchecked")
     public <T extends GameEvent> void publish(T event) {
-        LOGGER.fine("Publishing event: " + event.getClass().getSimpleName());
-
-        if (subscribers.containsKey(event.getClass())) {
-            for (EventHandler handler : subscribers.get(event.getClass())) {
-                try {
-                    handler.handle(event);
-                } catch (Exception e) {
-                    LOGGER.warning("Error handling event: " + e.getMessage());
-                }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Publishing event: " + event.getClass().getSimpleName());
+        }
+
+        HandlerTable table = subscribers.get(event.getClass());
+        if (table == null) {
+            return;
+        }
+
+        for (Subscription subscription : table.subscriptions) {
+            if (!subscription.isActive()) {
+                continue;
+            }
+
+            try {
+                ((EventHandler<T>) subscription.getHandler()).handle(event);
+            } catch (Exception e) {
+                LOGGER.warning("Error handling event: " + e.getMessage());
             }
         }
     }
@@ -97,24 +128,75 @@ public class EventBus {
      */
     public void reset() {
         LOGGER.info("Resetting EventBus - clearing all subscribers");
-        subscribers.clear();
+
+        for (HandlerTable table : subscribers.values()) {
+            synchronized (table) {
+                for (Subscription subscription : table.subscriptions) {
+                    subscription.deactivate();
+                }
+                table.subscriptions = NO_SUBSCRIPTIONS;
+                table.inactive = 0;
+            }
+        }
     }
 
     /**
-     * Unsubscribes all event handlers registered by a specific object.
+     * Gets the number of active subscriptions across all event types.
      *
-     * @param subscriber The subscriber object to unsubscribe
+     * @return The number of active subscriptions
      */
-    public void unsubscribeAll(Object subscriber) {
-        LOGGER.info("Unsubscribing all events for: " + subscriber.getClass().getSimpleName());
+    public int getSubscriptionCount() {
+        int count = 0;
+        for (HandlerTable table : subscribers.values()) {
+            synchronized (table) {
+                count += table.subscriptions.length - table.inactive;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes a subscription. Called through {@link Subscription#unsubscribe()}.
+     *
+     * @param subscription The subscription to remove
+     */
+    void release(Subscription subscription) {
+        HandlerTable table = subscribers.get(subscription.getEventType());
+        if (table == null) {
+            subscription.deactivate();
+            return;
+        }
 
-        for (Map.Entry<Class<? extends GameEvent>, List<EventHandler<? extends GameEvent>>> entry : subscribers.entrySet()) {
-            List<EventHandler<? extends GameEvent>> handlers = entry.getValue();
-            handlers.removeIf(handler -> handler.toString().contains(subscriber.getClass().getName()));
+        synchronized (table) {
+            if (!subscription.isActive()) {
+                return;
+            }
+
+            subscription.deactivate();
+            table.inactive++;
 
-            if (handlers.isEmpty()) {
-                subscribers.remove(entry.getKey());
+            if (table.inactive * 2 > table.subscriptions.length) {
+                compact(table);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Rebuilds a table's array without its inactive subscriptions.
+     * Must be called while holding the table's lock.
+     */
+    private static void compact(HandlerTable table) {
+        Subscription[] current = table.subscriptions;
+        Subscription[] remaining = new Subscription[current.length - table.inactive];
+
+        int index = 0;
+        for (Subscription subscription : current) {
+            if (subscription.isActive()) {
+                remaining[index++] = subscription;
+            }
+        }
+
+        table.subscriptions = remaining;
+        table.inactive = 0;
+    }
+}
@@ -1,7 +1,7 @@
 package com.colonygenesis.ui.events;
 
+import com.colonygenesis.resource.ResourceSnapshot;
 import com.colonygenesis.resource.ResourceType;
-import java.util.Map;
 
 /**
  * Event classes related to resource management.
@@ -98,58 +98,24 @@ public class ResourceEvents {
      * Event fired when all resources are updated at once.
      */
     public static class ResourcesUpdatedEvent implements GameEvent {
-        private final Map<ResourceType, Integer> resources;
-        private final Map<ResourceType, Integer> production;
-        private final Map<ResourceType, Integer> capacity;
-        private final int availableWorkers;
-        private final int assignedWorkers;
+        private final ResourceSnapshot snapshot;
 
         /**
          * Creates a new resources updated event.
          *
-         * @param resources The current resource amounts
-         * @param production The current production rates
-         * @param capacity The current storage capacities
-         * @param availableWorkers The number of available workers
-         * @param assignedWorkers The number of assigned workers
-         */
-        public ResourcesUpdatedEvent(Map<ResourceType, Integer> resources,
-                                     Map<ResourceType, Integer> production,
-                                     Map<ResourceType, Integer> capacity,
-                                     int availableWorkers,
-                                     int assignedWorkers) {
-            this.resources = resources;
-            this.production = production;
-            this.capacity = capacity;
-            this.availableWorkers = availableWorkers;
-            this.assignedWorkers = assignedWorkers;
-        }
-
-        /**
-         * Gets the current resource amounts.
-         *
-         * @return The resource amounts
+         * @param snapshot The current resource values
          */
-        public Map<ResourceType, Integer> getResources() {
-            return resources;
+        public ResourcesUpdatedEvent(ResourceSnapshot snapshot) {
+            this.snapshot = snapshot;
         }
 
         /**
-         * Gets the current production rates.
+         * Gets the resource values at the time of the event.
          *
-         * @return The production rates
+         * @return The resource snapshot
          */
-        public Map<ResourceType, Integer> getProduction() {
-            return production;
-        }
-
-        /**
-         * Gets the current storage capacities.
-         *
-         * @return The storage capacities
-         */
-        public Map<ResourceType, Integer> getCapacity() {
-            return capacity;
+        public ResourceSnapshot getSnapshot() {
+            return snapshot;
         }
 
         /**
@@ -158,7 +124,7 @@ public class ResourceEvents {
          * @return The number of available workers
          */
         public int getAvailableWorkers() {
-            return availableWorkers;
+            return snapshot.getAvailableWorkers();
         }
 
         /**
@@ -167,7 +133,7 @@ public class ResourceEvents {
          * @return The number of assigned workers
          */
         public int getAssignedWorkers() {
-            return assignedWorkers;
+            return snapshot.getAssignedWorkers();
         }
 
         /**
@@ -176,7 +142,7 @@ public class ResourceEvents {
          * @return The total population
          */
         public int getTotalPopulation() {
-            return resources.getOrDefault(ResourceType.POPULATION, 0);
+            return snapshot.getAmount(ResourceType.POPULATION);
         }
 
         /**
@@ -185,7 +151,7 @@ public class ResourceEvents {
          * @return The housing capacity
          */
         public int getHousingCapacity() {
-            return capacity.getOrDefault(ResourceType.POPULATION, 0);
+            return snapshot.getCapacity(ResourceType.POPULATION);
         }
 
         @Override
@@ -194,6 +160,81 @@ public class ResourceEvents {
         }
     }
 
+    /**
+     * Event fired once at the end of a batch of resource changes, such as a turn phase.
+     * Replaces the individual change events that would otherwise have been fired during the batch.
+     */
+    public static class ResourceDeltaEvent implements GameEvent {
+        private final ResourceSnapshot previous;
+        private final ResourceSnapshot current;
+        private final int changedTypes;
+
+        /**
+         * Creates a new resource delta event.
+         *
+         * @param previous The resource values at the start of the batch
+         * @param current The resource values at the end of the batch
+         * @param changedTypes Bitmask with bit {@code 1 << type.ordinal()} set for every changed resource
+         */
+        public ResourceDeltaEvent(ResourceSnapshot previous, ResourceSnapshot current, int changedTypes) {
+            this.previous = previous;
+            this.current = current;
+            this.changedTypes = changedTypes;
+        }
+
+        /**
+         * Gets the resource values at the start of the batch.
+         *
+         * @return The previous snapshot
+         */
+        public ResourceSnapshot getPrevious() {
+            return previous;
+        }
+
+        /**
+         * Gets the resource values at the end of the batch.
+         *
+         * @return The current snapshot
+         */
+        public ResourceSnapshot getCurrent() {
+            return current;
+        }
+
+        /**
+         * Gets the bitmask of changed resources.
+         *
+         * @return Bitmask with bit {@code 1 << type.ordinal()} set for every changed resource
+         */
+        public int getChangedTypes() {
+            return changedTypes;
+        }
+
+        /**
+         * Checks if a resource changed during the batch.
+         *
+         * @param type The resource type
+         * @return true if the amount, net production or capacity changed
+         */
+        public boolean isChanged(ResourceType type) {
+            return (changedTypes & (1 << type.ordinal())) != 0;
+        }
+
+        /**
+         * Gets the change in amount of a resource over the batch.
+         *
+         * @param type The resource type
+         * @return The change in resource amount
+         */
+        public int getDelta(ResourceType type) {
+            return current.getAmount(type) - previous.getAmount(type);
+        }
+
+        @Override
+        public String getName() {
+            return "ResourceDelta";
+        }
+    }
+
     /**
      * Event fired when worker availability changes.
      */
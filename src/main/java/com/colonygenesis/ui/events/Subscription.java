@@ -0,0 +1,53 @@
+package com.colonygenesis.ui.events;
+
+/**
+ * Handle for a single event subscription, returned by {@link EventBus#subscribe}.
+ * Unsubscribing through the handle takes constant time, however many other
+ * handlers are registered for the same event.
+ */
+public final class Subscription {
+    private final EventBus eventBus;
+    private final Class<? extends GameEvent> eventType;
+    private final EventHandler<? extends GameEvent> handler;
+    private volatile boolean active = true;
+
+    Subscription(EventBus eventBus, Class<? extends GameEvent> eventType, EventHandler<? extends GameEvent> handler) {
+        this.eventBus = eventBus;
+        this.eventType = eventType;
+        this.handler = handler;
+    }
+
+    /**
+     * Stops delivering events to the handler.
+     * Calling this more than once has no further effect.
+     */
+    public void unsubscribe() {
+        eventBus.release(this);
+    }
+
+    /**
+     * Checks whether the handler still receives events.
+     *
+     * @return true if subscribed, false after unsubscribing
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Gets the class of event this subscription listens to.
+     *
+     * @return The event class
+     */
+    public Class<? extends GameEvent> getEventType() {
+        return eventType;
+    }
+
+    EventHandler<? extends GameEvent> getHandler() {
+        return handler;
+    }
+
+    void deactivate() {
+        active = false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.colonygenesis.ui.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the subscriptions of one owner, such as a screen or overlay,
+ * so that the owner can release all of them with a single call when it is disposed.
+ */
+public class SubscriptionGroup {
+    private final EventBus eventBus;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * Creates an empty group for the specified event bus.
+     *
+     * @param eventBus The event bus to subscribe to
+     */
+    public SubscriptionGroup(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Subscribes a handler and records the subscription in this group.
+     *
+     * @param <T> The event type
+     * @param eventType The class of the event to subscribe to
+     * @param handler The handler to invoke when the event occurs
+     * @return The subscription handle
+     */
+    public synchronized <T extends GameEvent> Subscription subscribe(Class<T> eventType, EventHandler<T> handler) {
+        Subscription subscription = eventBus.subscribe(eventType, handler);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Releases every subscription in this group.
+     * The group can be reused for new subscriptions afterwards.
+     */
+    public synchronized void dispose() {
+        for (Subscription subscription : subscriptions) {
+            subscription.unsubscribe();
+        }
+        subscriptions.clear();
+    }
+
+    /**
+     * Gets the number of subscriptions in this group.
+     *
+     * @return The number of subscriptions
+     */
+    public synchronized int size() {
+        return subscriptions.size();
+    }
+}
@@ -97,6 +97,36 @@ public class TileEvents {
         }
     }
 
+    /**
+     * Event fired when a tile becomes part of the colony.
+     */
+    public static class TileColonizedEvent implements GameEvent {
+        private final Tile tile;
+
+        /**
+         * Creates a new tile colonized event.
+         *
+         * @param tile The colonized tile
+         */
+        public TileColonizedEvent(Tile tile) {
+            this.tile = tile;
+        }
+
+        /**
+         * Gets the colonized tile.
+         *
+         * @return The tile
+         */
+        public Tile getTile() {
+            return tile;
+        }
+
+        @Override
+        public String getName() {
+            return "TileColonized";
+        }
+    }
+
     /**
      * Event fired when the map view needs to be refreshed.
      */
@@ -1,8 +1,14 @@
 package com.colonygenesis.ui.styling;
 
+import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.technology.TechBranch;
 import javafx.scene.paint.Color;
 import org.kordamp.bootstrapfx.BootstrapFX;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 public class AppTheme {
     public static final String MAIN_STYLESHEET = "styles/main.css";
 
@@ -20,6 +26,35 @@ public class AppTheme {
     public static final Color COLOR_WARNING = Color.rgb(255, 152, 0);
     public static final Color COLOR_DANGER = Color.rgb(244, 67, 54);
 
+    // Game model colors, kept here so the model enums stay free of JavaFX
+    private static final Map<ResourceType, Color> RESOURCE_COLORS = new EnumMap<>(ResourceType.class);
+    private static final Map<TerrainType, Color> TERRAIN_COLORS = new EnumMap<>(TerrainType.class);
+    private static final Map<TechBranch, Color> BRANCH_COLORS = new EnumMap<>(TechBranch.class);
+
+    static {
+        RESOURCE_COLORS.put(ResourceType.FOOD, Color.GREEN);
+        RESOURCE_COLORS.put(ResourceType.ENERGY, Color.YELLOW);
+        RESOURCE_COLORS.put(ResourceType.MATERIALS, Color.BROWN);
+        RESOURCE_COLORS.put(ResourceType.WATER, Color.LIGHTBLUE);
+        RESOURCE_COLORS.put(ResourceType.RESEARCH, Color.PURPLE);
+        RESOURCE_COLORS.put(ResourceType.RARE_MINERALS, Color.SILVER);
+        RESOURCE_COLORS.put(ResourceType.ALIEN_COMPOUNDS, Color.MAGENTA);
+        RESOURCE_COLORS.put(ResourceType.POPULATION, Color.rgb(230, 180, 180));
+
+        TERRAIN_COLORS.put(TerrainType.PLAINS, Color.LIGHTGREEN);
+        TERRAIN_COLORS.put(TerrainType.DESERT, Color.KHAKI);
+        TERRAIN_COLORS.put(TerrainType.MOUNTAINS, Color.GRAY);
+        TERRAIN_COLORS.put(TerrainType.WATER, Color.LIGHTSKYBLUE);
+        TERRAIN_COLORS.put(TerrainType.FOREST, Color.DARKGREEN);
+        TERRAIN_COLORS.put(TerrainType.TUNDRA, Color.LIGHTCYAN);
+        TERRAIN_COLORS.put(TerrainType.VOLCANIC, Color.DARKRED);
+
+        BRANCH_COLORS.put(TechBranch.SURVIVAL, Color.rgb(0, 128, 0));
+        BRANCH_COLORS.put(TechBranch.INDUSTRY, Color.rgb(255, 140, 0));
+        BRANCH_COLORS.put(TechBranch.SCIENCE, Color.rgb(0, 0, 255));
+        BRANCH_COLORS.put(TechBranch.ADAPTATION, Color.rgb(128, 0, 128));
+    }
+
     // Style class names for layout components
     public static final String STYLE_SCREEN = "game-screen";
     public static final String STYLE_HEADER = "game-header";
@@ -83,6 +118,36 @@ public class AppTheme {
     public static final String STYLE_COMBO_BOX = "game-combo-box";
     public static final String STYLE_CHECK_BOX = "game-check-box";
 
+    /**
+     * Gets the color used to represent a resource in the UI.
+     *
+     * @param type The resource type
+     * @return The resource color
+     */
+    public static Color getResourceColor(ResourceType type) {
+        return RESOURCE_COLORS.getOrDefault(type, Color.WHITE);
+    }
+
+    /**
+     * Gets the fill color used to draw a terrain type on the map.
+     *
+     * @param type The terrain type
+     * @return The terrain color
+     */
+    public static Color getTerrainColor(TerrainType type) {
+        return TERRAIN_COLORS.getOrDefault(type, Color.GRAY);
+    }
+
+    /**
+     * Gets the color used to outline technologies of a branch.
+     *
+     * @param branch The technology branch
+     * @return The branch color
+     */
+    public static Color getBranchColor(TechBranch branch) {
+        return BRANCH_COLORS.getOrDefault(branch, Color.WHITE);
+    }
+
     /**
      * Gets the color string representation for use in CSS.
      *
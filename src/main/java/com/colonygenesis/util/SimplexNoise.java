@@ -6,12 +6,23 @@ import java.util.Random;
 
 /**
  * Simple implementation of Simplex Noise algorithm for terrain generation.
+ * <p>
+ * Besides single samples, the noise can be evaluated in batches along a line of the plane
+ * and summed over several octaves. Batches reuse the precomputed skew constants and
+ * gradient indices, so filling a whole column costs little more than the samples themselves.
  */
 public class SimplexNoise implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /** Skew factor from (x, y) to simplex cell space, 0.5 * (sqrt(3) - 1). */
+    private static final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);
+    /** Unskew factor from simplex cell space back to (x, y), (3 - sqrt(3)) / 6. */
+    private static final double G2 = (3.0 - Math.sqrt(3.0)) / 6.0;
+
     private final int[] perm = new int[512];
+    /** {@code perm[i] % 12}, so gradient lookups need no division. */
+    private final int[] permMod12 = new int[512];
     private static final int[] grad3 = {
             1,1,0, -1,1,0, 1,-1,0, -1,-1,0,
             1,0,1, -1,0,1, 1,0,-1, -1,0,-1,
@@ -35,18 +46,20 @@ public class SimplexNoise implements Serializable {
         for (int i = 0; i < 256; i++) {
             perm[i + 256] = perm[i];
         }
+
+        for (int i = 0; i < 512; i++) {
+            permMod12[i] = perm[i] % 12;
+        }
     }
 
     // 2D simplex noise
     public double noise(double xin, double yin) {
         double n0, n1, n2;
 
-        final double F2 = 0.5 * (Math.sqrt(3.0) - 1.0);
         double s = (xin + yin) * F2;
         int i = fastfloor(xin + s);
         int j = fastfloor(yin + s);
 
-        final double G2 = (3.0 - Math.sqrt(3.0)) / 6.0;
         double t = (i + j) * G2;
         double X0 = i - t;
         double Y0 = j - t;
@@ -69,9 +82,9 @@ public class SimplexNoise implements Serializable {
 
         int ii = i & 255;
         int jj = j & 255;
-        int gi0 = perm[ii + perm[jj]] % 12;
-        int gi1 = perm[ii + i1 + perm[jj + j1]] % 12;
-        int gi2 = perm[ii + 1 + perm[jj + 1]] % 12;
+        int gi0 = permMod12[ii + perm[jj]];
+        int gi1 = permMod12[ii + i1 + perm[jj + j1]];
+        int gi2 = permMod12[ii + 1 + perm[jj + 1]];
 
         double t0 = 0.5 - x0 * x0 - y0 * y0;
         if (t0 < 0) {
@@ -100,6 +113,90 @@ public class SimplexNoise implements Serializable {
        return 70.0 * (n0 + n1 + n2);
     }
 
+    /**
+     * Fractal (multi-octave) noise at a single point.
+     * Each octave doubles in frequency by {@code lacunarity} and shrinks in amplitude by
+     * {@code persistence}; the sum is normalized to the range of a single octave.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param octaves The number of octaves, at least 1
+     * @param persistence The amplitude factor between octaves
+     * @param lacunarity The frequency factor between octaves
+     * @return The noise value, roughly in [-1, 1]
+     */
+    public double fractal(double x, double y, int octaves, double persistence, double lacunarity) {
+        double sum = 0.0;
+        double amplitude = 1.0;
+        double frequency = 1.0;
+        double totalAmplitude = 0.0;
+
+        for (int octave = 0; octave < octaves; octave++) {
+            sum += amplitude * noise(x * frequency, y * frequency);
+            totalAmplitude += amplitude;
+            amplitude *= persistence;
+            frequency *= lacunarity;
+        }
+
+        return sum / totalAmplitude;
+    }
+
+    /**
+     * Samples the noise along a line, writing {@code out[i] = noise(x0 + i * dx, y0 + i * dy)}.
+     *
+     * @param out The array to fill
+     * @param x0 The x coordinate of the first sample
+     * @param y0 The y coordinate of the first sample
+     * @param dx The x step between samples
+     * @param dy The y step between samples
+     */
+    public void fill(double[] out, double x0, double y0, double dx, double dy) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = noise(x0 + i * dx, y0 + i * dy);
+        }
+    }
+
+    /**
+     * Samples fractal noise along a line, writing
+     * {@code out[i] = fractal(x0 + i * dx, y0 + i * dy, octaves, persistence, lacunarity)}.
+     * Octaves are accumulated over the whole line at once, one pass per octave, in the same
+     * order and with the same arithmetic as {@link #fractal}, so the results are identical.
+     *
+     * @param out The array to fill
+     * @param x0 The x coordinate of the first sample
+     * @param y0 The y coordinate of the first sample
+     * @param dx The x step between samples
+     * @param dy The y step between samples
+     * @param octaves The number of octaves, at least 1
+     * @param persistence The amplitude factor between octaves
+     * @param lacunarity The frequency factor between octaves
+     */
+    public void fillFractal(double[] out, double x0, double y0, double dx, double dy,
+                            int octaves, double persistence, double lacunarity) {
+        fill(out, x0, y0, dx, dy);
+        if (octaves <= 1) {
+            return;
+        }
+
+        double amplitude = 1.0;
+        double frequency = 1.0;
+        double totalAmplitude = 1.0;
+
+        for (int octave = 1; octave < octaves; octave++) {
+            amplitude *= persistence;
+            frequency *= lacunarity;
+            totalAmplitude += amplitude;
+
+            for (int i = 0; i < out.length; i++) {
+                out[i] += amplitude * noise((x0 + i * dx) * frequency, (y0 + i * dy) * frequency);
+            }
+        }
+
+        for (int i = 0; i < out.length; i++) {
+            out[i] /= totalAmplitude;
+        }
+    }
+
     private static int fastfloor(double x) {
         return x > 0 ? (int) x : (int) x - 1;
     }
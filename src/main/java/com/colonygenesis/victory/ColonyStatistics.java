@@ -0,0 +1,179 @@
+package com.colonygenesis.victory;
+
+import com.colonygenesis.building.AbstractBuilding;
+import com.colonygenesis.building.BuildingType;
+import com.colonygenesis.building.UnlockedProducers;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.resource.ResourceManager;
+import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.ui.events.BuildingEvents;
+import com.colonygenesis.ui.events.EventBus;
+import com.colonygenesis.ui.events.SubscriptionGroup;
+import com.colonygenesis.ui.events.TileEvents;
+import com.colonygenesis.ui.events.TurnEvents;
+import com.colonygenesis.util.LoggerUtil;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+/**
+ * Running totals of the colony state that victory conditions depend on.
+ * <p>
+ * The counts are taken once when the statistics are attached to an event bus and are then
+ * kept up to date from tile, building and turn events, so reading them is O(1) regardless
+ * of map size or building count.
+ */
+public class ColonyStatistics implements Serializable {
+    private static final Logger LOGGER = LoggerUtil.getLogger(ColonyStatistics.class);
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final String MEGASTRUCTURE_BUILDING_ID = "alien_megastructure";
+
+    private final Game game;
+
+    private int totalTiles;
+    private int colonizedTiles;
+    private int buildingCount;
+    private final int[] buildingsByType = new int[BuildingType.values().length];
+    private final int[] producersByType = new int[UnlockedProducers.UnlockedProducerType.values().length];
+    private int megastructureCount;
+
+    private int sustainableTurns;
+    private int lastRecordedTurn;
+
+    private transient SubscriptionGroup subscriptions;
+
+    /**
+     * Creates statistics for the specified game.
+     * Call {@link #attach(EventBus)} before reading any counts.
+     *
+     * @param game The game to track
+     */
+    public ColonyStatistics(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Recounts everything from the game state and subscribes to the events that keep the counts current.
+     * Called when the game is created and again after loading, since the event bus is not saved.
+     *
+     * @param eventBus The game's event bus
+     */
+    public void attach(EventBus eventBus) {
+        if (subscriptions != null) {
+            subscriptions.dispose();
+        }
+
+        recount();
+
+        subscriptions = new SubscriptionGroup(eventBus);
+        subscriptions.subscribe(TileEvents.TileColonizedEvent.class, event -> colonizedTiles++);
+        subscriptions.subscribe(BuildingEvents.BuildingPlacedEvent.class, event -> count(event.getBuilding(), 1));
+        subscriptions.subscribe(BuildingEvents.BuildingDemolishedEvent.class, event -> count(event.getBuilding(), -1));
+        subscriptions.subscribe(TurnEvents.TurnAdvancedEvent.class, event -> recordTurn(event.getPreviousTurn()));
+    }
+
+    /**
+     * Recomputes the tile and building counts by scanning the game state.
+     */
+    private void recount() {
+        HexGrid grid = game.getPlanet().getGrid();
+        totalTiles = grid.getWidth() * grid.getHeight();
+        colonizedTiles = grid.countColonized();
+
+        buildingCount = 0;
+        megastructureCount = 0;
+        Arrays.fill(buildingsByType, 0);
+        Arrays.fill(producersByType, 0);
+
+        for (AbstractBuilding building : game.getBuildingManager().getAllBuildings()) {
+            count(building, 1);
+        }
+
+        LOGGER.fine("Recounted colony statistics: " + colonizedTiles + " colonized tiles, "
+                + buildingCount + " buildings");
+    }
+
+    private void count(AbstractBuilding building, int delta) {
+        buildingCount += delta;
+        buildingsByType[building.getBuildingType().ordinal()] += delta;
+
+        if (building instanceof UnlockedProducers producer) {
+            UnlockedProducers.UnlockedProducerType type = producer.getProducerType();
+            producersByType[type.ordinal()] += delta;
+            if (type.getUnlockId().equals(MEGASTRUCTURE_BUILDING_ID)) {
+                megastructureCount += delta;
+            }
+        }
+    }
+
+    /**
+     * Extends or resets the sustainability streak for a completed turn.
+     * Each turn is recorded at most once, so events repeated on start or load do not count twice.
+     *
+     * @param turn The turn that just ended
+     */
+    private void recordTurn(int turn) {
+        if (turn < 1 || turn <= lastRecordedTurn) {
+            return;
+        }
+        lastRecordedTurn = turn;
+
+        if (isSustainable(game.getResourceManager())) {
+            sustainableTurns++;
+        } else {
+            sustainableTurns = 0;
+        }
+    }
+
+    /**
+     * Checks whether production covers consumption for every resource
+     * except alien compounds and rare minerals.
+     */
+    private static boolean isSustainable(ResourceManager resourceManager) {
+        for (ResourceType type : ResourceType.values()) {
+            if (type != ResourceType.ALIEN_COMPOUNDS && type != ResourceType.RARE_MINERALS
+                    && resourceManager.getNetProduction(type) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getTotalTiles() {
+        return totalTiles;
+    }
+
+    public int getColonizedTiles() {
+        return colonizedTiles;
+    }
+
+    public int getBuildingCount() {
+        return buildingCount;
+    }
+
+    public int getBuildingCount(BuildingType type) {
+        return buildingsByType[type.ordinal()];
+    }
+
+    public int getProducerCount(UnlockedProducers.UnlockedProducerType type) {
+        return producersByType[type.ordinal()];
+    }
+
+    public boolean hasMegastructure() {
+        return megastructureCount > 0;
+    }
+
+    /**
+     * Gets the number of consecutive completed turns in which the colony was sustainable.
+     *
+     * @return The sustainability streak
+     */
+    public int getSustainableTurns() {
+        return sustainableTurns;
+    }
+}
@@ -2,14 +2,8 @@ package com.colonygenesis.victory;
 
 import com.colonygenesis.core.Game;
 import com.colonygenesis.technology.TechManager;
-import com.colonygenesis.building.BuildingManager;
-import com.colonygenesis.building.BuildingType;
-import com.colonygenesis.building.AbstractBuilding;
-import com.colonygenesis.building.UnlockedProducers;
-import com.colonygenesis.map.HexGrid;
 import com.colonygenesis.resource.ResourceManager;
 import com.colonygenesis.resource.ResourceType;
-import com.colonygenesis.ui.events.EventBus;
 import com.colonygenesis.util.LoggerUtil;
 
 import java.io.Serial;
@@ -33,18 +27,17 @@ public class VictoryManager implements Serializable {
     private final Map<VictoryType, Float> progress;
     private final Map<VictoryType, Boolean> unlockedConditions;
     private final Map<VictoryType, Boolean> acknowledgedVictories;
+    private final ColonyStatistics statistics;
 
     // Scientific Victory Requirements
     private static final String[] SCIENTIFIC_KEY_TECHS = {"tech_singularity", "artificial_intelligence", "alien_tech_mastery"};
 
     // Industrial Victory Requirements
     private static final String[] INDUSTRIAL_KEY_TECHS = {"megastructure", "orbital_manufacturing", "resource_refinement"};
-    private static final String MEGASTRUCTURE_BUILDING_ID = "alien_megastructure";
 
     // Harmony Victory Requirements
     private static final String[] HARMONY_KEY_TECHS = {"planetary_harmony", "integrated_ecosystem", "symbiotic_systems"};
     private static final int HARMONY_SUSTAINABLE_TURNS = 20;
-    private int sustainableTurns = 0;
 
     // Expansionist Victory Requirements
     private static final int EXPANSION_POPULATION_TARGET = 1000;
@@ -65,10 +58,29 @@ public class VictoryManager implements Serializable {
             acknowledgedVictories.put(type, false);
         }
 
+        this.statistics = new ColonyStatistics(game);
+        statistics.attach(game.getEventBus());
+
         // Create victory conditions
         initializeVictoryConditions();
     }
 
+    /**
+     * Re-subscribes the colony statistics to the game's event bus after loading.
+     */
+    public void reconnect() {
+        statistics.attach(game.getEventBus());
+    }
+
+    /**
+     * Gets the running colony statistics used by the victory conditions.
+     *
+     * @return The colony statistics
+     */
+    public ColonyStatistics getStatistics() {
+        return statistics;
+    }
+
     private void initializeVictoryConditions() {
         // Scientific Victory
         victoryConditions.add(new VictoryCondition() {
@@ -110,7 +122,6 @@ public class VictoryManager implements Serializable {
             @Override
             public boolean checkProgress(Game game) {
                 TechManager techManager = game.getTechManager();
-                BuildingManager buildingManager = game.getBuildingManager();
 
                 // Check tech progress
                 int researchedCount = 0;
@@ -120,17 +131,7 @@ public class VictoryManager implements Serializable {
                     }
                 }
 
-                // Check for megastructure by building ID
-                boolean hasMegastructure = false;
-                for (AbstractBuilding building : buildingManager.getAllBuildings()) {
-                    if (building instanceof UnlockedProducers) {
-                        UnlockedProducers unlockedBuilding = (UnlockedProducers) building;
-                        if (unlockedBuilding.getProducerType().getUnlockId().equals(MEGASTRUCTURE_BUILDING_ID)) {
-                            hasMegastructure = true;
-                            break;
-                        }
-                    }
-                }
+                boolean hasMegastructure = statistics.hasMegastructure();
 
                 float progressValue = ((float) researchedCount / INDUSTRIAL_KEY_TECHS.length) * 0.7f
                         + (hasMegastructure ? 0.3f : 0.0f);
@@ -160,7 +161,6 @@ public class VictoryManager implements Serializable {
             @Override
             public boolean checkProgress(Game game) {
                 TechManager techManager = game.getTechManager();
-                ResourceManager resourceManager = game.getResourceManager();
 
                 // Check tech progress
                 int researchedCount = 0;
@@ -170,21 +170,8 @@ public class VictoryManager implements Serializable {
                     }
                 }
 
-                // Check sustainability (production >= consumption for all resources)
-                boolean isSustainable = true;
-                for (ResourceType type : ResourceType.values()) {
-                    if (type != ResourceType.ALIEN_COMPOUNDS && type != ResourceType.RARE_MINERALS) {
-                        if (resourceManager.getNetProduction(type) < 0) {
-                            isSustainable = false;
-                            sustainableTurns = 0;
-                            break;
-                        }
-                    }
-                }
-
-                if (isSustainable) {
-                    sustainableTurns++;
-                }
+                // Sustainability streak (production >= consumption), tracked once per turn
+                int sustainableTurns = Math.min(statistics.getSustainableTurns(), HARMONY_SUSTAINABLE_TURNS);
 
                 float progressValue = ((float) researchedCount / HARMONY_KEY_TECHS.length) * 0.7f
                         + ((float) sustainableTurns / HARMONY_SUSTAINABLE_TURNS) * 0.3f;
@@ -214,25 +201,11 @@ public class VictoryManager implements Serializable {
         victoryConditions.add(new VictoryCondition() {
             @Override
             public boolean checkProgress(Game game) {
-                ResourceManager resourceManager = game.getResourceManager();
-                HexGrid grid = game.getPlanet().getGrid();
-                BuildingManager buildingManager = game.getBuildingManager();
-
-                int population = resourceManager.getResource(ResourceType.POPULATION);
-
-                // Count colonized tiles
-                int totalTiles = grid.getWidth() * grid.getHeight();
-                int colonizedTiles = 0;
-
-                for (int x = 0; x < grid.getWidth(); x++) {
-                    for (int y = 0; y < grid.getHeight(); y++) {
-                        if (grid.getTileAt(x, y).isColonized()) {
-                            colonizedTiles++;
-                        }
-                    }
-                }
+                int population = game.getResourceManager().getResource(ResourceType.POPULATION);
 
-                int buildingCount = buildingManager.getBuildingCount();
+                int totalTiles = statistics.getTotalTiles();
+                int colonizedTiles = statistics.getColonizedTiles();
+                int buildingCount = statistics.getBuildingCount();
 
                 float populationProgress = Math.min((float) population / EXPANSION_POPULATION_TARGET, 1.0f);
                 float tileProgress = Math.min((float) colonizedTiles / (totalTiles * EXPANSION_TILE_PERCENTAGE / 100), 1.0f);
@@ -266,13 +239,12 @@ public class VictoryManager implements Serializable {
      * Checks if the game is over due to resource depletion.
      */
     public boolean checkGameOver() {
-        System.out.println("checking game over");
         ResourceManager resourceManager = game.getResourceManager();
 
         // Check critical resources
         if (resourceManager.getResource(ResourceType.POPULATION) <= 0) {
             LOGGER.info("Game Over: Population reached zero");
-            EventBus.getInstance().publish(new VictoryEvents.GameOverEvent("Population Extinction",
+            game.getEventBus().publish(new VictoryEvents.GameOverEvent("Population Extinction",
                     "Your colony's population has reached zero. The colony has failed."));
             return true;
         }
@@ -280,7 +252,7 @@ public class VictoryManager implements Serializable {
         if (resourceManager.getResource(ResourceType.FOOD) <= 0 &&
                 resourceManager.getNetProduction(ResourceType.FOOD) < 0) {
             LOGGER.info("Game Over: Food shortage");
-            EventBus.getInstance().publish(new VictoryEvents.GameOverEvent("Starvation",
+            game.getEventBus().publish(new VictoryEvents.GameOverEvent("Starvation",
                     "Your colony has run out of food. The colony has failed."));
             return true;
         }
@@ -288,7 +260,7 @@ public class VictoryManager implements Serializable {
         if (resourceManager.getResource(ResourceType.WATER) <= 0 &&
                 resourceManager.getNetProduction(ResourceType.WATER) < 0) {
             LOGGER.info("Game Over: Water shortage");
-            EventBus.getInstance().publish(new VictoryEvents.GameOverEvent("Dehydration",
+            game.getEventBus().publish(new VictoryEvents.GameOverEvent("Dehydration",
                     "Your colony has run out of water. The colony has failed."));
             return true;
         }
@@ -296,7 +268,7 @@ public class VictoryManager implements Serializable {
         if (resourceManager.getResource(ResourceType.ENERGY) <= 0 &&
                 resourceManager.getNetProduction(ResourceType.ENERGY) < 0) {
             LOGGER.info("Game Over: Energy crisis");
-            EventBus.getInstance().publish(new VictoryEvents.GameOverEvent("Energy Crisis",
+            game.getEventBus().publish(new VictoryEvents.GameOverEvent("Energy Crisis",
                     "Your colony has run out of energy. The colony has failed."));
             return true;
         }
@@ -311,7 +283,7 @@ public class VictoryManager implements Serializable {
         for (VictoryCondition condition : victoryConditions) {
             if (condition.isAchieved(game) && !acknowledgedVictories.get(condition.getType())) {
                 LOGGER.info("Victory achieved: " + condition.getType());
-                EventBus.getInstance().publish(new VictoryEvents.VictoryAchievedEvent(condition.getType()));
+                game.getEventBus().publish(new VictoryEvents.VictoryAchievedEvent(condition.getType()));
                 return true;
             }
         }
@@ -0,0 +1,73 @@
+package com.colonygenesis.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ColonizationFrontierTest {
+    private static final TerrainType[] TERRAIN = {
+            TerrainType.PLAINS, TerrainType.PLAINS, TerrainType.FOREST, TerrainType.WATER, TerrainType.VOLCANIC
+    };
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        Random random = new Random(7);
+        HexGrid grid = TestGrids.random(40, 30, random, TERRAIN);
+        grid.setColonized(20, 15, true);
+
+        ColonizationFrontier frontier = new ColonizationFrontier(grid);
+
+        for (int i = 0; i < 300 && frontier.size() > 0; i++) {
+            List<Tile> options = frontier.getTiles();
+            Tile next = options.get(random.nextInt(options.size()));
+            int x = next.getX();
+            int y = next.getY();
+
+            grid.setColonized(x, y, true);
+            frontier.onColonized(x, y);
+
+            assertSameFrontier(new ColonizationFrontier(grid), frontier);
+        }
+    }
+
+    @Test
+    void rebuildMatchesCanColonize() {
+        Random random = new Random(11);
+        HexGrid grid = TestGrids.random(25, 25, random, TERRAIN);
+        for (int i = 0; i < 40; i++) {
+            grid.setColonized(random.nextInt(25), random.nextInt(25), true);
+        }
+
+        ColonizationFrontier frontier = new ColonizationFrontier(grid);
+
+        int expected = 0;
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                assertEquals(grid.canColonize(x, y), frontier.contains(x, y), "tile " + x + "," + y);
+                if (grid.canColonize(x, y)) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, frontier.size());
+        assertFalse(frontier.contains(-1, 0));
+    }
+
+    private static void assertSameFrontier(ColonizationFrontier expected, ColonizationFrontier actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(members(expected), members(actual));
+    }
+
+    private static Set<Long> members(ColonizationFrontier frontier) {
+        Set<Long> members = new HashSet<>();
+        frontier.forEach((x, y) -> members.add(((long) x << 32) | y));
+        assertEquals(frontier.size(), members.size(), "frontier lists a tile twice");
+        return members;
+    }
+}
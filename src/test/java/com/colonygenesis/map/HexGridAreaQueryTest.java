@@ -0,0 +1,100 @@
+package com.colonygenesis.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HexGridAreaQueryTest {
+    private final HexGrid grid = new HexGrid(50, 50);
+
+    @Test
+    void ringHasSixTilesPerStepAtTheRightDistance() {
+        // Even and odd columns use different neighbor offsets
+        for (int centerX : new int[]{24, 25}) {
+            for (int radius = 0; radius <= 6; radius++) {
+                List<Integer> ring = collectRing(centerX, 25, radius);
+
+                assertEquals(radius == 0 ? 1 : 6 * radius, ring.size(), "ring " + radius);
+                assertEquals(ring.size(), new HashSet<>(ring).size(), "ring " + radius + " repeats a tile");
+                for (int index : ring) {
+                    assertEquals(radius, HexGrid.distance(centerX, 25, grid.xOf(index), grid.yOf(index)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void ringIsVisitedInWalkingOrder() {
+        List<Integer> ring = collectRing(25, 25, 4);
+        for (int i = 1; i < ring.size(); i++) {
+            int previous = ring.get(i - 1);
+            int current = ring.get(i);
+            assertEquals(1, HexGrid.distance(grid.xOf(previous), grid.yOf(previous), grid.xOf(current), grid.yOf(current)));
+        }
+    }
+
+    @Test
+    void firstRingMatchesNeighbors() {
+        for (int centerX : new int[]{24, 25}) {
+            int[] neighbors = new int[HexGrid.MAX_NEIGHBORS];
+            int count = grid.getNeighborIndices(centerX, 25, neighbors);
+
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                expected.add(neighbors[i]);
+            }
+
+            assertEquals(expected, new HashSet<>(collectRing(centerX, 25, 1)));
+        }
+    }
+
+    @Test
+    void rangeAndSpiralCoverTheSameHexagon() {
+        for (int centerX : new int[]{24, 25}) {
+            for (int radius = 0; radius <= 6; radius++) {
+                Set<Integer> range = new HashSet<>();
+                List<Integer> spiral = new ArrayList<>();
+                final int limit = radius;
+
+                grid.forEachInRange(centerX, 25, radius, (x, y) -> {
+                    assertTrue(HexGrid.distance(centerX, 25, x, y) <= limit);
+                    range.add(grid.indexOf(x, y));
+                });
+                grid.forEachInSpiral(centerX, 25, radius, (x, y) -> spiral.add(grid.indexOf(x, y)));
+
+                assertEquals(3 * radius * (radius + 1) + 1, range.size(), "range " + radius);
+                assertEquals(range, new HashSet<>(spiral));
+                assertEquals(range.size(), spiral.size(), "spiral " + radius + " repeats a tile");
+            }
+        }
+    }
+
+    @Test
+    void rangeIsClippedToTheGrid() {
+        Set<Integer> expected = new HashSet<>();
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                if (HexGrid.distance(0, 0, x, y) <= 3) {
+                    expected.add(grid.indexOf(x, y));
+                }
+            }
+        }
+
+        Set<Integer> range = new HashSet<>();
+        grid.forEachInRange(0, 0, 3, (x, y) -> range.add(grid.indexOf(x, y)));
+
+        assertEquals(expected, range);
+    }
+
+    private List<Integer> collectRing(int x, int y, int radius) {
+        List<Integer> ring = new ArrayList<>();
+        grid.forEachInRing(x, y, radius, (rx, ry) -> ring.add(grid.indexOf(rx, ry)));
+        return ring;
+    }
+}
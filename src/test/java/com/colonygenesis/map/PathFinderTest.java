@@ -0,0 +1,119 @@
+package com.colonygenesis.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PathFinderTest {
+    @Test
+    void pathCostMatchesDijkstra() {
+        Random random = new Random(3);
+        HexGrid grid = TestGrids.random(40, 40, random, TerrainType.values());
+        PathFinder pathFinder = grid.getPathFinder();
+
+        for (int i = 0; i < 200; i++) {
+            int startX = random.nextInt(40);
+            int startY = random.nextInt(40);
+            int goalX = random.nextInt(40);
+            int goalY = random.nextInt(40);
+
+            int[] path = pathFinder.findPath(startX, startY, goalX, goalY);
+            assertNotNull(path);
+            assertValidPath(grid, path, startX, startY, goalX, goalY);
+            assertEquals(dijkstra(grid, startX, startY, goalX, goalY), pathFinder.getPathCost(path), 1e-9);
+        }
+    }
+
+    @Test
+    void cacheIsDroppedWhenTerrainChanges() {
+        Random random = new Random(5);
+        HexGrid grid = TestGrids.random(30, 30, random, TerrainType.values());
+        PathFinder pathFinder = grid.getPathFinder();
+
+        int[] first = pathFinder.findPath(2, 2, 27, 27);
+        int[] cached = pathFinder.findPath(2, 2, 27, 27);
+        assertEquals(1, pathFinder.getSearchCount());
+        assertEquals(1, pathFinder.getCacheHits());
+        assertEquals(Arrays.toString(first), Arrays.toString(cached));
+
+        // Make the cached route expensive, so a stale result would no longer be optimal
+        for (int i = 1; i < first.length - 1; i++) {
+            grid.setTerrainType(grid.xOf(first[i]), grid.yOf(first[i]), TerrainType.MOUNTAINS);
+        }
+
+        int[] updated = pathFinder.findPath(2, 2, 27, 27);
+        assertEquals(2, pathFinder.getSearchCount());
+        assertEquals(dijkstra(grid, 2, 2, 27, 27), pathFinder.getPathCost(updated), 1e-9);
+    }
+
+    @Test
+    void positionsOutsideTheGridHaveNoPath() {
+        HexGrid grid = TestGrids.random(10, 10, new Random(1), TerrainType.values());
+        PathFinder pathFinder = grid.getPathFinder();
+
+        assertNull(pathFinder.findPath(-1, 0, 5, 5));
+        assertNull(pathFinder.findPath(0, 0, 10, 5));
+    }
+
+    @Test
+    void pathToSelfIsSingleTile() {
+        HexGrid grid = TestGrids.random(10, 10, new Random(2), TerrainType.values());
+        int[] path = grid.getPathFinder().findPath(4, 6, 4, 6);
+
+        assertEquals(1, path.length);
+        assertEquals(grid.indexOf(4, 6), path[0]);
+        assertEquals(0.0, grid.getPathFinder().getPathCost(path), 0.0);
+    }
+
+    private static void assertValidPath(HexGrid grid, int[] path, int startX, int startY, int goalX, int goalY) {
+        assertEquals(grid.indexOf(startX, startY), path[0]);
+        assertEquals(grid.indexOf(goalX, goalY), path[path.length - 1]);
+        for (int i = 1; i < path.length; i++) {
+            assertEquals(1, HexGrid.distance(grid.xOf(path[i - 1]), grid.yOf(path[i - 1]),
+                    grid.xOf(path[i]), grid.yOf(path[i])), "step " + i + " is not between neighbors");
+        }
+    }
+
+    /**
+     * Reference search: plain Dijkstra with the same rounding of movement costs.
+     */
+    private static double dijkstra(HexGrid grid, int startX, int startY, int goalX, int goalY) {
+        int size = grid.getWidth() * grid.getHeight();
+        long[] costs = new long[size];
+        Arrays.fill(costs, Long.MAX_VALUE);
+
+        int start = grid.indexOf(startX, startY);
+        costs[start] = 0;
+
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        queue.add(new long[]{0, start});
+
+        int[] neighbors = new int[HexGrid.MAX_NEIGHBORS];
+        while (!queue.isEmpty()) {
+            long[] entry = queue.poll();
+            int current = (int) entry[1];
+            if (entry[0] > costs[current]) {
+                continue;
+            }
+
+            int count = grid.getNeighborIndices(grid.xOf(current), grid.yOf(current), neighbors);
+            for (int i = 0; i < count; i++) {
+                int next = neighbors[i];
+                TerrainType terrain = grid.getTerrainType(grid.xOf(next), grid.yOf(next));
+                long cost = costs[current] + Math.round(terrain.getMovementCost() * 100);
+                if (cost < costs[next]) {
+                    costs[next] = cost;
+                    queue.add(new long[]{cost, next});
+                }
+            }
+        }
+
+        return costs[grid.indexOf(goalX, goalY)] / 100.0;
+    }
+}
@@ -0,0 +1,177 @@
+package com.colonygenesis.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionIndexTest {
+    private static final int WIDTH = 45;
+    private static final int HEIGHT = 35;
+    private static final TerrainType[] TERRAIN = {TerrainType.PLAINS, TerrainType.WATER, TerrainType.MOUNTAINS};
+
+    @Test
+    void incrementalTerritoriesMatchRebuild() {
+        Random random = new Random(3);
+        HexGrid grid = TestGrids.random(WIDTH, HEIGHT, random, TERRAIN);
+        RegionIndex index = grid.getRegionIndex();
+
+        for (int i = 0; i < 600; i++) {
+            grid.setColonized(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+
+            if (i % 50 == 0) {
+                assertTerritories(grid, new RegionIndex(grid), index);
+            }
+        }
+        assertTerritories(grid, new RegionIndex(grid), index);
+    }
+
+    @Test
+    void territoriesMatchFloodFill() {
+        Random random = new Random(5);
+        HexGrid grid = TestGrids.random(WIDTH, HEIGHT, random, TERRAIN);
+        RegionIndex index = grid.getRegionIndex();
+
+        for (int i = 0; i < 500; i++) {
+            grid.setColonized(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+        }
+
+        int[] labels = floodFill(grid, true);
+        assertArrayEquals(labels, territoryLabels(grid, index));
+        assertEquals(Arrays.stream(labels).max().orElse(0), index.getTerritoryCount());
+    }
+
+    @Test
+    void losingAColonySplitsTerritory() {
+        HexGrid grid = new HexGrid(10, 3);
+        for (int x = 0; x < 10; x++) {
+            grid.setColonized(x, 1, true);
+        }
+
+        RegionIndex index = grid.getRegionIndex();
+        assertEquals(1, index.getTerritoryCount());
+        assertTrue(index.isConnected(0, 1, 9, 1));
+
+        grid.setColonized(5, 1, false);
+
+        assertEquals(2, index.getTerritoryCount());
+        assertFalse(index.isConnected(0, 1, 9, 1));
+        assertEquals(5, index.getTerritorySize(0, 1));
+        assertEquals(4, index.getTerritorySize(9, 1));
+        assertEquals(-1, index.getTerritoryId(5, 1));
+        assertEquals(0, index.getTerritorySize(5, 1));
+    }
+
+    @Test
+    void terrainRegionsMatchFloodFill() {
+        Random random = new Random(7);
+        HexGrid grid = TestGrids.random(WIDTH, HEIGHT, random, TERRAIN);
+        RegionIndex index = grid.getRegionIndex();
+
+        assertTerrainRegions(grid, index);
+
+        // Terrain changes may split regions; the index must notice and rebuild
+        for (int i = 0; i < 200; i++) {
+            grid.setTerrainType(random.nextInt(WIDTH), random.nextInt(HEIGHT), TERRAIN[random.nextInt(TERRAIN.length)]);
+        }
+        assertTerrainRegions(grid, index);
+    }
+
+    private static void assertTerritories(HexGrid grid, RegionIndex expected, RegionIndex actual) {
+        assertEquals(expected.getTerritoryCount(), actual.getTerritoryCount());
+        assertArrayEquals(territoryLabels(grid, expected), territoryLabels(grid, actual));
+
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                assertEquals(expected.getTerritorySize(x, y), actual.getTerritorySize(x, y));
+            }
+        }
+    }
+
+    private static void assertTerrainRegions(HexGrid grid, RegionIndex index) {
+        int[] labels = floodFill(grid, false);
+        int[] sizes = new int[Arrays.stream(labels).max().orElse(0) + 1];
+        for (int label : labels) {
+            sizes[label]++;
+        }
+
+        assertEquals(sizes.length - 1, index.getTerrainRegionCount());
+        assertArrayEquals(labels, canonicalize(grid, (x, y) -> index.getTerrainRegionId(x, y)));
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                assertEquals(sizes[labels[grid.indexOf(x, y)]], index.getTerrainRegionSize(x, y));
+            }
+        }
+    }
+
+    private static int[] territoryLabels(HexGrid grid, RegionIndex index) {
+        return canonicalize(grid, (x, y) -> index.getTerritoryId(x, y));
+    }
+
+    private interface RegionId {
+        int of(int x, int y);
+    }
+
+    /**
+     * Renumbers region identifiers 1, 2, 3... in grid index order, so two labelings of
+     * the same partition compare equal. Tiles with identifier -1 are labeled 0.
+     */
+    private static int[] canonicalize(HexGrid grid, RegionId regionId) {
+        int[] labels = new int[WIDTH * HEIGHT];
+        Map<Integer, Integer> renumbered = new HashMap<>();
+
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                int id = regionId.of(x, y);
+                if (id != -1) {
+                    labels[grid.indexOf(x, y)] = renumbered.computeIfAbsent(id, key -> renumbered.size() + 1);
+                }
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Reference labeling by breadth-first flood fill, numbered like {@link #canonicalize}.
+     */
+    private static int[] floodFill(HexGrid grid, boolean territories) {
+        int[] labels = new int[WIDTH * HEIGHT];
+        int next = 0;
+
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                int start = grid.indexOf(x, y);
+                if (labels[start] != 0 || (territories && !grid.isColonized(x, y))) {
+                    continue;
+                }
+
+                int label = ++next;
+                TerrainType terrain = grid.getTerrainType(x, y);
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                labels[start] = label;
+                queue.add(start);
+
+                while (!queue.isEmpty()) {
+                    int current = queue.poll();
+                    grid.forEachNeighbor(grid.xOf(current), grid.yOf(current), (nx, ny) -> {
+                        int neighbor = grid.indexOf(nx, ny);
+                        boolean joined = territories ? grid.isColonized(nx, ny) : grid.getTerrainType(nx, ny) == terrain;
+                        if (labels[neighbor] == 0 && joined) {
+                            labels[neighbor] = label;
+                            queue.add(neighbor);
+                        }
+                    });
+                }
+            }
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,31 @@
+package com.colonygenesis.map;
+
+import java.util.Random;
+
+/**
+ * Grid fixtures shared by the map tests.
+ */
+final class TestGrids {
+    private TestGrids() {
+    }
+
+    /**
+     * Creates a grid whose tiles are drawn uniformly from the given terrain types.
+     * A type listed more than once is drawn proportionally more often.
+     *
+     * @param width The width of the grid
+     * @param height The height of the grid
+     * @param random The source of randomness
+     * @param terrain The terrain types to draw from
+     * @return The new grid
+     */
+    static HexGrid random(int width, int height, Random random, TerrainType... terrain) {
+        HexGrid grid = new HexGrid(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid.setTerrainType(x, y, terrain[random.nextInt(terrain.length)]);
+            }
+        }
+        return grid;
+    }
+}
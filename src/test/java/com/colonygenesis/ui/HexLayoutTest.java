@@ -0,0 +1,92 @@
+package com.colonygenesis.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HexLayoutTest {
+    private static final int COLUMNS = 40;
+    private static final int ROWS = 40;
+
+    private final HexLayout layout = new HexLayout(30.0);
+
+    @Test
+    void offsetAtMatchesNearestCenter() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            double worldX = random.nextDouble() * layout.centerX(COLUMNS - 1);
+            double worldY = random.nextDouble() * layout.centerY(0, ROWS - 1);
+
+            HexLayout.Offset expected = nearestCenter(worldX, worldY);
+            assertEquals(expected, layout.offsetAt(worldX, worldY), "at " + worldX + "," + worldY);
+        }
+    }
+
+    @Test
+    void offsetAtCentersIsThatHexagon() {
+        for (int x = 0; x < COLUMNS; x++) {
+            for (int y = 0; y < ROWS; y++) {
+                assertEquals(new HexLayout.Offset(x, y), layout.offsetAt(layout.centerX(x), layout.centerY(x, y)));
+            }
+        }
+    }
+
+    @Test
+    void visibleRangeIncludesEveryHexagonInView() {
+        Random random = new Random(2);
+        double size = layout.getSize();
+        double halfHeight = layout.getHexHeight() / 2;
+
+        for (int i = 0; i < 500; i++) {
+            double minX = random.nextDouble() * 1500 - 200;
+            double minY = random.nextDouble() * 1500 - 200;
+            double maxX = minX + random.nextDouble() * 800;
+            double maxY = minY + random.nextDouble() * 800;
+
+            int firstColumn = layout.firstColumn(minX);
+            int lastColumn = layout.lastColumn(maxX);
+            int firstRow = layout.firstRow(minY);
+            int lastRow = layout.lastRow(maxY);
+
+            for (int x = 0; x < COLUMNS; x++) {
+                for (int y = 0; y < ROWS; y++) {
+                    double centerX = layout.centerX(x);
+                    double centerY = layout.centerY(x, y);
+                    boolean visible = centerX + size >= minX && centerX - size <= maxX
+                            && centerY + halfHeight >= minY && centerY - halfHeight <= maxY;
+
+                    if (visible) {
+                        assertTrue(x >= firstColumn && x <= lastColumn && y >= firstRow && y <= lastRow,
+                                "hexagon " + x + "," + y + " is visible but outside the range");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reference hit test: hexagons are the cells of their centers, so the containing
+     * hexagon is the one with the nearest center.
+     */
+    private HexLayout.Offset nearestCenter(double worldX, double worldY) {
+        HexLayout.Offset nearest = null;
+        double best = Double.MAX_VALUE;
+
+        for (int x = 0; x < COLUMNS; x++) {
+            for (int y = 0; y < ROWS; y++) {
+                double dx = worldX - layout.centerX(x);
+                double dy = worldY - layout.centerY(x, y);
+                double distance = dx * dx + dy * dy;
+                if (distance < best) {
+                    best = distance;
+                    nearest = new HexLayout.Offset(x, y);
+                }
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,33 @@
+package com.colonygenesis.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimplexNoiseTest {
+    private final SimplexNoise noise = new SimplexNoise(42);
+
+    @Test
+    void fillMatchesPointSamples() {
+        double[] out = new double[200];
+        noise.fill(out, -3.7, 12.25, 0.031, 0.017);
+
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(noise.noise(-3.7 + i * 0.031, 12.25 + i * 0.017), out[i], 0.0, "sample " + i);
+        }
+    }
+
+    @Test
+    void fillFractalMatchesPointSamples() {
+        double[] out = new double[200];
+
+        for (int octaves : new int[]{1, 3, 6}) {
+            noise.fillFractal(out, 0.3, -5.1, 0.013, 0.029, octaves, 0.55, 2.1);
+
+            for (int i = 0; i < out.length; i++) {
+                double expected = noise.fractal(0.3 + i * 0.013, -5.1 + i * 0.029, octaves, 0.55, 2.1);
+                assertEquals(expected, out[i], 0.0, octaves + " octaves, sample " + i);
+            }
+        }
+    }
+}